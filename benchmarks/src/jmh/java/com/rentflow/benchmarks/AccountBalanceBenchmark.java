@@ -0,0 +1,55 @@
+package com.rentflow.benchmarks;
+
+import com.rentflow.ledger.model.Account;
+import com.rentflow.ledger.model.AccountSubType;
+import com.rentflow.ledger.model.AccountType;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AccountBalanceBenchmark {
+
+    @Param({"ASSET", "LIABILITY"})
+    private AccountType accountType;
+
+    private final BigDecimal amount = new BigDecimal("1850.00");
+    private Account account;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        account = Account.builder()
+            .id(UUID.randomUUID())
+            .accountNumber("1000-BENCH")
+            .accountName("Benchmark")
+            .accountType(accountType)
+            .accountSubType(AccountSubType.CASH)
+            .ownerId(UUID.randomUUID())
+            .currentBalance(new BigDecimal("125000.00"))
+            .availableBalance(new BigDecimal("125000.00"))
+            .build();
+    }
+
+    @Benchmark
+    public BigDecimal debit() {
+        account.debit(amount);
+        return account.getCurrentBalance();
+    }
+
+    @Benchmark
+    public BigDecimal credit() {
+        account.credit(amount);
+        return account.getCurrentBalance();
+    }
+
+    @Benchmark
+    public BigDecimal debitThenCredit() {
+        account.debit(amount);
+        account.credit(amount);
+        return account.getCurrentBalance();
+    }
+}
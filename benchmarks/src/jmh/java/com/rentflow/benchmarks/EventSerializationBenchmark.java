@@ -0,0 +1,102 @@
+package com.rentflow.benchmarks;
+
+import com.rentflow.events.PaymentCompleted;
+import com.rentflow.events.PaymentCreated;
+import com.rentflow.events.PaymentMethod;
+import com.rentflow.events.PaymentType;
+import com.rentflow.events.serde.EventDeserializer;
+import com.rentflow.events.serde.EventSerializer;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventSerializationBenchmark {
+
+    private static final String TOPIC = "payment-created";
+
+    @Param({"json", "avro"})
+    private String encoding;
+
+    private final EventSerializer serializer = new EventSerializer();
+    private final EventDeserializer deserializer = new EventDeserializer();
+
+    // The type-header JSON path the services used before the shared dispatch table
+    private final JsonSerializer<Object> typeHeaderSerializer = new JsonSerializer<>();
+    private final JsonDeserializer<Object> typeHeaderDeserializer = new JsonDeserializer<>();
+
+    private PaymentCreated created;
+    private PaymentCompleted completed;
+    private byte[] createdBytes;
+    private Headers createdHeaders;
+    private byte[] completedBytes;
+    private Headers completedHeaders;
+    private byte[] createdTypeHeaderJson;
+    private Headers createdTypeHeaders;
+
+    @Setup
+    public void setUp() {
+        serializer.configure(Map.of(EventSerializer.ENCODING_CONFIG, encoding), false);
+        deserializer.configure(Map.of(JsonDeserializer.TRUSTED_PACKAGES, "*"), false);
+        typeHeaderSerializer.configure(Map.of(), false);
+        typeHeaderDeserializer.configure(Map.of(JsonDeserializer.TRUSTED_PACKAGES, "*"), false);
+
+        var now = Instant.now();
+        created = new PaymentCreated(
+            UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+            new BigDecimal("1850.00"), "USD", PaymentMethod.ACH, PaymentType.FULL, now, now,
+            PaymentCreated.CURRENT_VERSION
+        );
+        completed = new PaymentCompleted(
+            UUID.randomUUID(), "pi_3OabcdEFghij", new BigDecimal("1850.00"), new BigDecimal("12.50"),
+            "ACH", now, now, PaymentCompleted.CURRENT_VERSION
+        );
+
+        createdHeaders = new RecordHeaders();
+        createdBytes = serializer.serialize(TOPIC, createdHeaders, created);
+        completedHeaders = new RecordHeaders();
+        completedBytes = serializer.serialize(TOPIC, completedHeaders, completed);
+        createdTypeHeaders = new RecordHeaders();
+        createdTypeHeaderJson = typeHeaderSerializer.serialize(TOPIC, createdTypeHeaders, created);
+    }
+
+    @Benchmark
+    public byte[] serializePaymentCreated() {
+        return serializer.serialize(TOPIC, new RecordHeaders(), created);
+    }
+
+    @Benchmark
+    public byte[] serializePaymentCompleted() {
+        return serializer.serialize(TOPIC, new RecordHeaders(), completed);
+    }
+
+    @Benchmark
+    public Object deserializePaymentCreated() {
+        return deserializer.deserialize(TOPIC, createdHeaders, createdBytes);
+    }
+
+    @Benchmark
+    public Object deserializePaymentCompleted() {
+        return deserializer.deserialize(TOPIC, completedHeaders, completedBytes);
+    }
+
+    @Benchmark
+    public byte[] serializePaymentCreatedTypeHeader() {
+        return typeHeaderSerializer.serialize(TOPIC, new RecordHeaders(), created);
+    }
+
+    @Benchmark
+    public Object deserializePaymentCreatedTypeHeader() {
+        return typeHeaderDeserializer.deserialize(TOPIC, createdTypeHeaders, createdTypeHeaderJson);
+    }
+}
@@ -0,0 +1,88 @@
+package com.rentflow.benchmarks;
+
+import com.rentflow.payment.dto.PaymentResponse;
+import com.rentflow.payment.model.Payment;
+import com.rentflow.payment.model.PaymentMethod;
+import com.rentflow.payment.model.PaymentStatus;
+import com.rentflow.payment.model.PaymentType;
+import com.rentflow.payment.repository.PaymentRepository;
+import com.rentflow.payment.service.PaymentService;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// Measures PaymentService.getPayment without Spring proxies, i.e. the lookup plus the toResponse mapping
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PaymentResponseBenchmark {
+
+    @Param({"0", "3"})
+    private int partialPayments;
+
+    private PaymentService paymentService;
+    private UUID paymentId;
+
+    @Setup
+    public void setUp() throws Exception {
+        var payment = payment(UUID.randomUUID(), null);
+        paymentId = payment.getId();
+        var partials = IntStream.range(0, partialPayments)
+            .mapToObj(i -> payment(UUID.randomUUID(), paymentId))
+            .toList();
+
+        var repository = (PaymentRepository) Proxy.newProxyInstance(
+            PaymentRepository.class.getClassLoader(),
+            new Class<?>[]{PaymentRepository.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "findById" -> Optional.of(payment);
+                case "findByParentPaymentId" -> partials;
+                default -> throw new UnsupportedOperationException(method.getName());
+            }
+        );
+
+        // Only the repository is used on this path; the remaining collaborators stay null
+        var constructor = PaymentService.class.getConstructors()[0];
+        var args = new Object[constructor.getParameterCount()];
+        for (int i = 0; i < args.length; i++) {
+            if (constructor.getParameterTypes()[i] == PaymentRepository.class) {
+                args[i] = repository;
+            }
+        }
+        paymentService = (PaymentService) constructor.newInstance(args);
+    }
+
+    private static Payment payment(UUID id, UUID parentPaymentId) {
+        var now = Instant.now();
+        return Payment.builder()
+            .id(id)
+            .tenantId(UUID.randomUUID())
+            .propertyId(UUID.randomUUID())
+            .leaseId(UUID.randomUUID())
+            .amount(new BigDecimal("1850.00"))
+            .paymentType(parentPaymentId == null ? PaymentType.FULL : PaymentType.PARTIAL)
+            .paymentMethod(PaymentMethod.ACH)
+            .status(PaymentStatus.COMPLETED)
+            .settledAmount(new BigDecimal("1850.00"))
+            .feeAmount(new BigDecimal("12.50"))
+            .transactionId("pi_3OabcdEFghij")
+            .partialPayment(parentPaymentId != null)
+            .parentPaymentId(parentPaymentId)
+            .completedAt(now)
+            .createdAt(now)
+            .updatedAt(now)
+            .build();
+    }
+
+    @Benchmark
+    public PaymentResponse getPayment() {
+        return paymentService.getPayment(paymentId);
+    }
+}
@@ -0,0 +1,58 @@
+package com.rentflow.benchmarks;
+
+import com.rentflow.scheduling.model.PaymentSchedule;
+import com.rentflow.scheduling.model.RecurrencePattern;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ScheduleBenchmark {
+
+    @Param({"DAILY", "WEEKLY", "BI_WEEKLY", "MONTHLY", "QUARTERLY", "YEARLY"})
+    private RecurrencePattern pattern;
+
+    private PaymentSchedule firstExecution;
+    private PaymentSchedule laterExecution;
+
+    @Setup
+    public void setUp() {
+        firstExecution = schedule(null);
+        // Month-end base exercises the day-of-month clamping in the monthly path
+        laterExecution = schedule(Instant.parse("2024-01-31T00:00:00Z"));
+    }
+
+    private PaymentSchedule schedule(Instant lastExecutionTime) {
+        return PaymentSchedule.builder()
+            .id(UUID.randomUUID())
+            .tenantId(UUID.randomUUID())
+            .propertyId(UUID.randomUUID())
+            .leaseId(UUID.randomUUID())
+            .name("Rent")
+            .amount(new BigDecimal("1850.00"))
+            .recurrencePattern(pattern)
+            .dayOfMonth(31)
+            .startDate(LocalDate.of(2024, 1, 1))
+            .active(true)
+            .completedOccurrences(0)
+            .failedOccurrences(0)
+            .lastExecutionTime(lastExecutionTime)
+            .build();
+    }
+
+    @Benchmark
+    public Instant firstExecution() {
+        return firstExecution.calculateNextExecution();
+    }
+
+    @Benchmark
+    public Instant afterLastExecution() {
+        return laterExecution.calculateNextExecution();
+    }
+}
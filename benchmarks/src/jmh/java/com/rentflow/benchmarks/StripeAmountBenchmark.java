@@ -0,0 +1,35 @@
+package com.rentflow.benchmarks;
+
+import com.rentflow.gateway.integration.StripeClient;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StripeAmountBenchmark {
+
+    @Param({"1850.00", "0.99", "125000.50"})
+    private String value;
+
+    private BigDecimal amount;
+    private long minorUnits;
+
+    @Setup
+    public void setUp() {
+        amount = new BigDecimal(value);
+        minorUnits = StripeClient.toMinorUnits(amount);
+    }
+
+    @Benchmark
+    public long toMinorUnits() {
+        return StripeClient.toMinorUnits(amount);
+    }
+
+    @Benchmark
+    public BigDecimal fromMinorUnits() {
+        return StripeClient.fromMinorUnits(minorUnits);
+    }
+}
@@ -0,0 +1,261 @@
+package com.rentflow.ledger.archive;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.rentflow.ledger.model.EntryStatus;
+import com.rentflow.ledger.model.LedgerEntry;
+import com.rentflow.ledger.model.LedgerEntryType;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+@Slf4j
+@Component
+public class LedgerArchive {
+
+    private static final String COLUMNS = """
+        id, payment_id, tenant_id, property_id, lease_id,
+        debit_account_number, debit_account_type, debit_account_owner_id,
+        credit_account_number, credit_account_type, credit_account_owner_id,
+        amount, currency, entry_type, status, reference, description,
+        entry_date, posted_date, transaction_id, batch_id,
+        debit_balance, credit_balance, metadata, entry_hash, created_at
+        """;
+
+    private static final String FILE_SUFFIX = ".csv.gz";
+
+    private static final String INSERT_KEY = """
+        INSERT INTO ledger_archive_keys (archive_month, tenant_id, lease_id) VALUES (?, ?, ?)
+        ON CONFLICT DO NOTHING
+        """;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final Path directory;
+    private final CsvMapper csvMapper = new CsvMapper();
+
+    public LedgerArchive(
+        DataSource dataSource,
+        JdbcTemplate jdbcTemplate,
+        @Value("${ledger.archive.directory:/var/lib/rentflow/ledger-archive}") String directory
+    ) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.directory = Path.of(directory);
+    }
+
+    public void export(String partition, YearMonth month) throws IOException, SQLException {
+        Files.createDirectories(directory);
+        var target = file(month);
+        var temp = Files.createTempFile(directory, partition, ".tmp");
+
+        var connection = DataSourceUtils.getConnection(dataSource);
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp))) {
+            long rows = connection.unwrap(PGConnection.class).getCopyAPI().copyOut(
+                "COPY (SELECT " + COLUMNS + " FROM " + partition + " ORDER BY entry_date) TO STDOUT WITH (FORMAT csv, HEADER)",
+                out
+            );
+            log.info("Exported {} rows from {} to {}", rows, partition, target);
+        } catch (IOException | SQLException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        // Before the partition is dropped, so a failure here leaves it in place for the next run
+        jdbcTemplate.update(
+            "INSERT INTO ledger_archive_keys (archive_month, tenant_id, lease_id) " +
+            "SELECT DISTINCT ?::date, tenant_id, lease_id FROM " + partition + " ON CONFLICT DO NOTHING",
+            month.atDay(1)
+        );
+        markIndexed(month);
+    }
+
+    // Records the keys of archive files exported before ledger_archive_keys existed. Idempotent, so instances
+    // starting together only repeat each other's work
+    @EventListener(ApplicationReadyEvent.class)
+    public void indexArchives() {
+        for (var month : unindexedMonths()) {
+            try {
+                var keys = new HashSet<List<String>>();
+                forEachRow(file(month), row -> keys.add(List.of(row.get("tenant_id"), row.get("lease_id"))));
+                var date = month.atDay(1);
+                jdbcTemplate.batchUpdate(INSERT_KEY, keys, 1000, (ps, key) -> {
+                    ps.setObject(1, date);
+                    ps.setObject(2, UUID.fromString(key.get(0)));
+                    ps.setObject(3, UUID.fromString(key.get(1)));
+                });
+                markIndexed(month);
+                log.info("Indexed ledger archive {}: {} tenant and lease pairs", month, keys.size());
+            } catch (IOException | RuntimeException e) {
+                log.error("Failed to index ledger archive {}", month, e);
+            }
+        }
+    }
+
+    public List<LedgerEntry> findByTenantId(UUID tenantId) {
+        var value = tenantId.toString();
+        return scan(
+            "SELECT DISTINCT archive_month FROM ledger_archive_keys WHERE tenant_id = ?", tenantId,
+            row -> value.equals(row.get("tenant_id"))
+        );
+    }
+
+    public List<LedgerEntry> findByLeaseId(UUID leaseId) {
+        var value = leaseId.toString();
+        return scan(
+            "SELECT DISTINCT archive_month FROM ledger_archive_keys WHERE lease_id = ?", leaseId,
+            row -> value.equals(row.get("lease_id"))
+        );
+    }
+
+    // Reads only the files the key index points at, plus any not indexed yet, so the cost follows the
+    // requested history rather than the whole archive. Newest first, like the live entry_date DESC queries
+    private List<LedgerEntry> scan(String monthsSql, UUID key, Predicate<Map<String, String>> filter) {
+        var months = new TreeSet<YearMonth>(Comparator.reverseOrder());
+        jdbcTemplate.query(monthsSql, rs -> {
+            months.add(YearMonth.from(rs.getDate(1).toLocalDate()));
+        }, key);
+        months.addAll(unindexedMonths());
+
+        var entries = new ArrayList<LedgerEntry>();
+        try {
+            for (var month : months) {
+                var file = file(month);
+                if (Files.exists(file)) {
+                    entries.addAll(read(file, filter));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read ledger archive", e);
+        }
+        entries.sort(Comparator.comparing(LedgerEntry::getEntryDate).reversed());
+        return entries;
+    }
+
+    private List<YearMonth> unindexedMonths() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        var indexed = new HashSet<>(jdbcTemplate.queryForList("SELECT archive_month FROM ledger_archive_months", LocalDate.class));
+        try (var files = Files.list(directory)) {
+            return files.map(f -> f.getFileName().toString())
+                .filter(name -> name.startsWith(LedgerPartitionManager.PARTITION_PREFIX) && name.endsWith(FILE_SUFFIX))
+                .map(name -> YearMonth.parse(
+                    name.substring(LedgerPartitionManager.PARTITION_PREFIX.length(), name.length() - FILE_SUFFIX.length()),
+                    LedgerPartitionManager.SUFFIX))
+                .filter(month -> !indexed.contains(month.atDay(1)))
+                .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list ledger archive", e);
+        }
+    }
+
+    private void markIndexed(YearMonth month) {
+        jdbcTemplate.update("INSERT INTO ledger_archive_months (archive_month) VALUES (?) ON CONFLICT DO NOTHING",
+            month.atDay(1));
+    }
+
+    private Path file(YearMonth month) {
+        return directory.resolve(LedgerPartitionManager.PARTITION_PREFIX + month.format(LedgerPartitionManager.SUFFIX) + FILE_SUFFIX);
+    }
+
+    private List<LedgerEntry> read(Path file, Predicate<Map<String, String>> filter) throws IOException {
+        var matches = new ArrayList<LedgerEntry>();
+        forEachRow(file, row -> {
+            if (filter.test(row)) {
+                matches.add(toEntry(row));
+            }
+        });
+        return matches;
+    }
+
+    private void forEachRow(Path file, Consumer<Map<String, String>> action) throws IOException {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file));
+             MappingIterator<Map<String, String>> rows = csvMapper
+                 .readerForMapOf(String.class)
+                 .with(CsvSchema.emptySchema().withHeader())
+                 .readValues(in)) {
+            while (rows.hasNext()) {
+                action.accept(rows.next());
+            }
+        }
+    }
+
+    private LedgerEntry toEntry(Map<String, String> row) {
+        return LedgerEntry.builder()
+            .id(UUID.fromString(row.get("id")))
+            .paymentId(UUID.fromString(row.get("payment_id")))
+            .tenantId(UUID.fromString(row.get("tenant_id")))
+            .propertyId(UUID.fromString(row.get("property_id")))
+            .leaseId(UUID.fromString(row.get("lease_id")))
+            .debitAccountNumber(row.get("debit_account_number"))
+            .debitAccountType(row.get("debit_account_type"))
+            .debitAccountOwnerId(row.get("debit_account_owner_id"))
+            .creditAccountNumber(row.get("credit_account_number"))
+            .creditAccountType(row.get("credit_account_type"))
+            .creditAccountOwnerId(row.get("credit_account_owner_id"))
+            .amount(decimal(row.get("amount")))
+            .currency(row.get("currency"))
+            .entryType(LedgerEntryType.valueOf(row.get("entry_type")))
+            .status(EntryStatus.valueOf(row.get("status")))
+            .reference(text(row.get("reference")))
+            .description(text(row.get("description")))
+            .entryDate(instant(row.get("entry_date")))
+            .postedDate(instant(row.get("posted_date")))
+            .transactionId(text(row.get("transaction_id")))
+            .batchId(text(row.get("batch_id")))
+            .debitBalance(decimal(row.get("debit_balance")))
+            .creditBalance(decimal(row.get("credit_balance")))
+            .metadata(text(row.get("metadata")))
+            .entryHash(text(row.get("entry_hash")))
+            .createdAt(instant(row.get("created_at")))
+            .build();
+    }
+
+    private static String text(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    private static BigDecimal decimal(String value) {
+        return text(value) == null ? null : new BigDecimal(value);
+    }
+
+    private static Instant instant(String value) {
+        return text(value) == null ? null : Timestamp.valueOf(value).toInstant();
+    }
+}
@@ -0,0 +1,91 @@
+package com.rentflow.ledger.archive;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LedgerPartitionManager {
+
+    static final String PARTITION_PREFIX = "ledger_entries_";
+    static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LedgerArchive ledgerArchive;
+
+    @Value("${ledger.partitions.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${ledger.partitions.retention-months:24}")
+    private int retentionMonths;
+
+    @Value("${ledger.archive.enabled:true}")
+    private boolean archiveEnabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${ledger.partitions.cron:0 30 2 * * *}")
+    public void maintainPartitions() {
+        var currentMonth = YearMonth.now(ZoneOffset.UTC);
+        for (int i = 0; i <= monthsAhead; i++) {
+            createPartition(currentMonth.plusMonths(i));
+        }
+        if (archiveEnabled) {
+            archivePartitionsBefore(currentMonth.minusMonths(retentionMonths));
+        }
+    }
+
+    private void createPartition(YearMonth month) {
+        var name = PARTITION_PREFIX + month.format(SUFFIX);
+        LocalDate from = month.atDay(1);
+        try {
+            jdbcTemplate.execute(
+                "CREATE TABLE IF NOT EXISTS " + name + " PARTITION OF ledger_entries " +
+                "FOR VALUES FROM ('" + from + "') TO ('" + from.plusMonths(1) + "')"
+            );
+        } catch (Exception e) {
+            log.error("Failed to create ledger partition {}", name, e);
+        }
+    }
+
+    private void archivePartitionsBefore(YearMonth cutoff) {
+        // Detached tables are included so that a failed export is retried on the next run
+        var partitions = jdbcTemplate.queryForList("""
+            SELECT c.relname AS name, i.inhrelid IS NOT NULL AS attached
+            FROM pg_class c
+            LEFT JOIN pg_inherits i ON i.inhrelid = c.oid
+            WHERE c.relkind = 'r'
+            AND c.relname ~ '^ledger_entries_[0-9]{4}_[0-9]{2}$'
+            ORDER BY c.relname
+            """);
+
+        for (var row : partitions) {
+            var partition = (String) row.get("name");
+            var month = YearMonth.parse(partition.substring(PARTITION_PREFIX.length()), SUFFIX);
+            if (!month.isBefore(cutoff)) {
+                continue;
+            }
+            try {
+                if (Boolean.TRUE.equals(row.get("attached"))) {
+                    jdbcTemplate.execute("ALTER TABLE ledger_entries DETACH PARTITION " + partition);
+                }
+                ledgerArchive.export(partition, month);
+                jdbcTemplate.execute("DROP TABLE " + partition);
+                log.info("Archived ledger partition {}", partition);
+            } catch (Exception e) {
+                log.error("Failed to archive ledger partition {}", partition, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.rentflow.ledger.controller;
+
+import com.rentflow.ledger.dto.ChainVerification;
+import com.rentflow.ledger.service.LedgerService;
+import com.rentflow.ledger.statement.StatementJob;
+import com.rentflow.ledger.statement.StatementWriter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/accounts")
+@RequiredArgsConstructor
+@Tag(name = "Accounts", description = "Account balances and chain verification")
+public class AccountController {
+
+    private final LedgerService ledgerService;
+    private final StatementWriter statementWriter;
+    private final StatementJob statementJob;
+
+    @GetMapping("/{accountNumber}/balance")
+    @Operation(summary = "Get account balance as of a point in time")
+    public ResponseEntity<Map<String, Object>> getBalance(
+        @PathVariable String accountNumber,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant asOf,
+        WebRequest request
+    ) {
+        // Weak without asOf: the body then carries the time of the request, so only the balance is the same
+        var sequence = ledgerService.getPostingSequence(accountNumber);
+        if (request.checkNotModified(asOf != null ? "\"" + sequence + "\"" : "W/\"" + sequence + "\"")) {
+            return null;
+        }
+        var at = asOf != null ? asOf : Instant.now();
+        BigDecimal balance = ledgerService.getBalanceAsOf(accountNumber, at);
+        return ResponseEntity.ok(Map.of("accountNumber", accountNumber, "asOf", at, "balance", balance));
+    }
+
+    @GetMapping("/{accountNumber}/verify")
+    @Operation(summary = "Verify the account posting hash chain")
+    public ResponseEntity<ChainVerification> verifyChain(@PathVariable String accountNumber) {
+        return ResponseEntity.ok(ledgerService.verifyChain(accountNumber));
+    }
+
+    @GetMapping(value = "/{accountNumber}/statement", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream a monthly account statement as NDJSON")
+    public ResponseEntity<StreamingResponseBody> getStatement(
+        @PathVariable String accountNumber,
+        @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth period
+    ) {
+        ledgerService.requireAccount(accountNumber);
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(out -> statementWriter.write(accountNumber, period, out));
+    }
+
+    @PostMapping("/statements")
+    @Operation(summary = "Generate statements for all active accounts")
+    public ResponseEntity<Map<String, Object>> generateStatements(
+        @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth period
+    ) {
+        if (!statementJob.start(period)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("period", period.toString(), "status", "ALREADY_RUNNING"));
+        }
+        return ResponseEntity.accepted().body(Map.of("period", period.toString(), "status", "STARTED"));
+    }
+}
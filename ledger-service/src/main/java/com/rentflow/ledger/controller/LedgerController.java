@@ -10,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -32,20 +33,37 @@ public class LedgerController {
 
     @GetMapping("/{id}")
     @Operation(summary = "Get ledger entry by ID")
-    public ResponseEntity<LedgerEntry> getEntry(@PathVariable UUID id) {
+    public ResponseEntity<LedgerEntry> getEntry(@PathVariable UUID id, WebRequest request) {
+        if (request.checkNotModified(ledgerService.getEntryTag(id))) {
+            return null;
+        }
         return ResponseEntity.ok(ledgerService.getEntry(id));
     }
 
     @GetMapping("/tenant/{tenantId}")
     @Operation(summary = "Get entries by tenant")
-    public ResponseEntity<List<LedgerEntry>> getEntriesByTenant(@PathVariable UUID tenantId) {
-        return ResponseEntity.ok(ledgerService.getEntriesByTenant(tenantId));
+    public ResponseEntity<List<LedgerEntry>> getEntriesByTenant(
+        @PathVariable UUID tenantId,
+        @RequestParam(defaultValue = "false") boolean includeArchived,
+        WebRequest request
+    ) {
+        if (request.checkNotModified(ledgerService.getTenantEntriesTag(tenantId))) {
+            return null;
+        }
+        return ResponseEntity.ok(ledgerService.getEntriesByTenant(tenantId, includeArchived));
     }
 
     @GetMapping("/lease/{leaseId}")
     @Operation(summary = "Get entries by lease")
-    public ResponseEntity<List<LedgerEntry>> getEntriesByLease(@PathVariable UUID leaseId) {
-        return ResponseEntity.ok(ledgerService.getEntriesByLease(leaseId));
+    public ResponseEntity<List<LedgerEntry>> getEntriesByLease(
+        @PathVariable UUID leaseId,
+        @RequestParam(defaultValue = "false") boolean includeArchived,
+        WebRequest request
+    ) {
+        if (request.checkNotModified(ledgerService.getLeaseEntriesTag(leaseId))) {
+            return null;
+        }
+        return ResponseEntity.ok(ledgerService.getEntriesByLease(leaseId, includeArchived));
     }
 
     @GetMapping("/tenant/{tenantId}/revenue")
@@ -0,0 +1,8 @@
+package com.rentflow.ledger.dto;
+
+public record ChainVerification(
+    String accountNumber,
+    boolean valid,
+    long verifiedPostings,
+    Long brokenAtSequence
+) {}
@@ -0,0 +1,15 @@
+package com.rentflow.ledger.metrics;
+
+import com.rentflow.diagnostics.ContentionEvent;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// Duration of the balance UPDATE, which is dominated by the wait for the account's row lock on hot accounts
+@Name("com.rentflow.ledger.AccountUpdate")
+@Label("Account update")
+public class AccountUpdateEvent extends ContentionEvent {
+
+    public AccountUpdateEvent(String accountNumber) {
+        super(accountNumber);
+    }
+}
@@ -0,0 +1,40 @@
+package com.rentflow.ledger.metrics;
+
+import com.rentflow.ledger.model.LedgerEntryType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@RequiredArgsConstructor
+public class LedgerMetrics {
+
+    static final String POSTING = "rentflow.ledger.posting";
+
+    private final MeterRegistry meterRegistry;
+
+    // Stops when the surrounding transaction completes, so balance-row lock waits and the commit are included
+    public void timePosting(LedgerEntryType entryType) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        var sample = Timer.start(meterRegistry);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                sample.stop(timer(entryType, status == STATUS_COMMITTED ? "COMMITTED" : "ROLLED_BACK"));
+            }
+        });
+    }
+
+    private Timer timer(LedgerEntryType entryType, String outcome) {
+        return Timer.builder(POSTING)
+            .description("Ledger entry posting latency, from request to commit")
+            .tag("entry_type", entryType != null ? entryType.name() : "UNKNOWN")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+}
@@ -1,5 +1,7 @@
 package com.rentflow.ledger.model;
 
+import com.rentflow.persistence.GeneratedUuidV7;
+import com.rentflow.persistence.PersistableEntity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
@@ -21,10 +23,10 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class Account {
+public class Account extends PersistableEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     private UUID id;
 
     @Column(nullable = false, unique = true, length = 50)
@@ -59,6 +61,13 @@ public class Account {
     @Column(length = 500)
     private String description;
 
+    @Column(nullable = false)
+    @Builder.Default
+    private Long postingSequence = 0L;
+
+    @Column(length = 64)
+    private String lastPostingHash;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private Instant createdAt;
@@ -72,7 +81,7 @@ public class Account {
     private Integer version = 0;
 
     public void debit(BigDecimal amount) {
-        if (accountType == AccountType.ASSET || accountType == AccountType.EXPENSE) {
+        if (accountType.increasesOnDebit()) {
             currentBalance = currentBalance.add(amount);
         } else {
             currentBalance = currentBalance.subtract(amount);
@@ -81,7 +90,7 @@ public class Account {
     }
 
     public void credit(BigDecimal amount) {
-        if (accountType == AccountType.ASSET || accountType == AccountType.EXPENSE) {
+        if (accountType.increasesOnDebit()) {
             currentBalance = currentBalance.subtract(amount);
         } else {
             currentBalance = currentBalance.add(amount);
@@ -0,0 +1,101 @@
+package com.rentflow.ledger.model;
+
+import com.rentflow.persistence.PersistableEntity;
+import com.rentflow.persistence.UuidV7;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+@Entity
+@Table(name = "account_postings", indexes = {
+    @Index(name = "idx_posting_account_date", columnList = "account_number, entry_date, sequence_no")
+})
+@EntityListeners(AuditingEntityListener.class)
+@Immutable
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountPosting extends PersistableEntity {
+
+    @Id
+    private UUID id;
+
+    @Column(nullable = false, length = 50)
+    private String accountNumber;
+
+    @Column(nullable = false)
+    private Long sequenceNo;
+
+    @Column(nullable = false)
+    private UUID entryId;
+
+    @Column(nullable = false)
+    private Instant entryDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 6)
+    private PostingSide side;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal balanceAfter;
+
+    @Column(length = 64)
+    private String previousHash;
+
+    @Column(length = 64)
+    private String postingHash;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    // Builds the next posting in the account's chain from the balance update that reserved its sequence number
+    public static AccountPosting append(BalanceUpdate update, LedgerEntry entry, PostingSide side) {
+        var posting = AccountPosting.builder()
+            .id(UuidV7.next())
+            .accountNumber(update.accountNumber())
+            .sequenceNo(update.sequenceNo())
+            .entryId(entry.getId())
+            .entryDate(entry.getEntryDate())
+            .side(side)
+            .amount(entry.getAmount())
+            .balanceAfter(update.balanceAfter())
+            .previousHash(update.previousHash())
+            .build();
+        posting.postingHash = posting.computeHash(entry.getEntryHash());
+        return posting;
+    }
+
+    public String computeHash(String entryHash) {
+        return LedgerHash.sha256(
+            previousHash,
+            accountNumber,
+            sequenceNo,
+            entryId,
+            side,
+            LedgerHash.amount(amount),
+            LedgerHash.amount(balanceAfter),
+            entryHash
+        );
+    }
+
+    public boolean isHashed() {
+        return postingHash != null;
+    }
+
+    public boolean verify(String expectedPreviousHash, String entryHash) {
+        return Objects.equals(previousHash, expectedPreviousHash)
+            && Objects.equals(postingHash, computeHash(entryHash));
+    }
+}
@@ -5,5 +5,10 @@ public enum AccountType {
     LIABILITY,
     EQUITY,
     REVENUE,
-    EXPENSE
+    EXPENSE;
+
+    // Asset and expense accounts grow on the debit side; all others grow on the credit side
+    public boolean increasesOnDebit() {
+        return this == ASSET || this == EXPENSE;
+    }
 }
@@ -0,0 +1,11 @@
+package com.rentflow.ledger.model;
+
+import java.math.BigDecimal;
+
+// Account state returned by an in-place balance update; the row stays locked until the transaction ends
+public record BalanceUpdate(
+    String accountNumber,
+    BigDecimal balanceAfter,
+    long sequenceNo,
+    String previousHash
+) {}
@@ -1,32 +1,35 @@
 package com.rentflow.ledger.model;
 
+import com.rentflow.persistence.GeneratedUuidV7;
+import com.rentflow.persistence.PersistableEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Immutable;
 import org.springframework.data.annotation.CreatedDate;
-import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
 @Entity
 @Table(name = "ledger_entries", indexes = {
     @Index(name = "idx_entry_payment", columnList = "payment_id"),
-    @Index(name = "idx_entry_account", columnList = "account_number"),
-    @Index(name = "idx_entry_tenant", columnList = "tenant_id"),
-    @Index(name = "idx_entry_date", columnList = "entry_date")
+    @Index(name = "idx_entry_tenant", columnList = "tenant_id, entry_date"),
+    @Index(name = "idx_entry_lease", columnList = "lease_id, entry_date")
 })
 @EntityListeners(AuditingEntityListener.class)
+@Immutable
 @Getter
 @Setter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class LedgerEntry {
+public class LedgerEntry extends PersistableEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     private UUID id;
 
     @Column(nullable = false)
@@ -73,7 +76,7 @@ public class LedgerEntry {
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
-    private EntryStatus status = EntryStatus.PENDING;
+    private EntryStatus status = EntryStatus.POSTED;
 
     @Column(length = 100)
     private String reference;
@@ -102,18 +105,13 @@ public class LedgerEntry {
     @Column(length = 1000)
     private String metadata;
 
+    @Column(length = 64, updatable = false)
+    private String entryHash;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private Instant createdAt;
 
-    @LastModifiedDate
-    @Column(nullable = false)
-    private Instant updatedAt;
-
-    @Version
-    @Builder.Default
-    private Integer version = 0;
-
     @PrePersist
     protected void onCreate() {
         if (entryDate == null) {
@@ -121,15 +119,23 @@ public class LedgerEntry {
         }
     }
 
-    public void postEntry(String transactionId) {
-        this.status = EntryStatus.POSTED;
-        this.transactionId = transactionId;
-        this.postedDate = Instant.now();
-    }
-
-    public void settle(BigDecimal settledAmount) {
-        this.status = EntryStatus.SETTLED;
-        this.debitBalance = settledAmount;
-        this.creditBalance = settledAmount;
+    // Entry dates are stored with microsecond precision, so hash inputs must be too
+    public String computeHash() {
+        return LedgerHash.sha256(
+            id,
+            paymentId,
+            tenantId,
+            propertyId,
+            leaseId,
+            debitAccountNumber,
+            creditAccountNumber,
+            LedgerHash.amount(amount),
+            currency,
+            entryType,
+            reference,
+            ChronoUnit.MICROS.between(Instant.EPOCH, entryDate),
+            LedgerHash.amount(debitBalance),
+            LedgerHash.amount(creditBalance)
+        );
     }
 }
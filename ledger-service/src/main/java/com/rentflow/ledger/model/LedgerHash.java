@@ -0,0 +1,34 @@
+package com.rentflow.ledger.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+final class LedgerHash {
+
+    private LedgerHash() {}
+
+    static String sha256(Object... parts) {
+        var canonical = new StringBuilder();
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                canonical.append('|');
+            }
+            canonical.append(parts[i] != null ? parts[i] : "");
+        }
+        try {
+            var digest = MessageDigest.getInstance("SHA-256")
+                .digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    static String amount(BigDecimal value) {
+        return value != null ? value.setScale(2, RoundingMode.UNNECESSARY).toPlainString() : null;
+    }
+}
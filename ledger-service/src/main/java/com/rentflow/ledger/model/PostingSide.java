@@ -0,0 +1,6 @@
+package com.rentflow.ledger.model;
+
+public enum PostingSide {
+    DEBIT,
+    CREDIT
+}
@@ -0,0 +1,55 @@
+package com.rentflow.ledger.repository;
+
+import com.rentflow.ledger.model.AccountPosting;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Repository
+public interface AccountPostingRepository extends JpaRepository<AccountPosting, UUID> {
+
+    @Query(value = """
+        SELECT balance_after FROM account_postings
+        WHERE account_number = :accountNumber
+        AND entry_date <= :asOf
+        ORDER BY entry_date DESC, sequence_no DESC
+        LIMIT 1
+        """, nativeQuery = true)
+    Optional<BigDecimal> findBalanceAsOf(
+        @Param("accountNumber") String accountNumber,
+        @Param("asOf") Instant asOf
+    );
+
+    @Query(value = """
+        SELECT balance_after FROM account_postings
+        WHERE account_number = :accountNumber
+        AND entry_date < :before
+        ORDER BY entry_date DESC, sequence_no DESC
+        LIMIT 1
+        """, nativeQuery = true)
+    Optional<BigDecimal> findBalanceBefore(
+        @Param("accountNumber") String accountNumber,
+        @Param("before") Instant before
+    );
+
+    // Each posting with its entry in chain order, the entry null where its partition has been archived. Matching
+    // on entry_date as well lets every entry lookup go to a single partition
+    @Query("""
+        SELECT p, e FROM AccountPosting p
+        LEFT JOIN LedgerEntry e ON e.id = p.entryId AND e.entryDate = p.entryDate
+        WHERE p.accountNumber = :accountNumber
+        ORDER BY p.sequenceNo ASC
+        """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<Object[]> streamChain(@Param("accountNumber") String accountNumber);
+}
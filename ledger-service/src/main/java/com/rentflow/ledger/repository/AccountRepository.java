@@ -4,6 +4,7 @@ import com.rentflow.ledger.model.Account;
 import com.rentflow.ledger.model.AccountType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,7 +12,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface AccountRepository extends JpaRepository<Account, UUID> {
+public interface AccountRepository extends JpaRepository<Account, UUID>, AccountRepositoryCustom {
 
     Optional<Account> findByAccountNumber(String accountNumber);
 
@@ -23,4 +24,8 @@ public interface AccountRepository extends JpaRepository<Account, UUID> {
     List<Account> findActiveAccounts();
 
     boolean existsByAccountNumber(String accountNumber);
+
+    // Bumped by every posting, so it versions the balance; the entity's version only covers metadata edits
+    @Query("SELECT a.postingSequence FROM Account a WHERE a.accountNumber = :accountNumber")
+    Optional<Long> findPostingSequence(@Param("accountNumber") String accountNumber);
 }
@@ -0,0 +1,14 @@
+package com.rentflow.ledger.repository;
+
+import com.rentflow.ledger.model.BalanceUpdate;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+public interface AccountRepositoryCustom {
+
+    // Empty when the account is missing, inactive or its metadata version has moved on
+    Optional<BalanceUpdate> applyBalanceChange(String accountNumber, BigDecimal delta, int expectedVersion);
+
+    void updateLastPostingHash(String accountNumber, String postingHash);
+}
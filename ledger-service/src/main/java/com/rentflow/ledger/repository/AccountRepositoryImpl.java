@@ -0,0 +1,50 @@
+package com.rentflow.ledger.repository;
+
+import com.rentflow.ledger.metrics.AccountUpdateEvent;
+import com.rentflow.ledger.model.BalanceUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class AccountRepositoryImpl implements AccountRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<BalanceUpdate> applyBalanceChange(String accountNumber, BigDecimal delta, int expectedVersion) {
+        var event = new AccountUpdateEvent(accountNumber);
+        event.begin();
+        // version tracks metadata only, so balance updates leave it untouched
+        var rows = jdbcTemplate.query("""
+            UPDATE accounts
+            SET current_balance = current_balance + ?,
+                available_balance = current_balance + ?,
+                posting_sequence = posting_sequence + 1
+            WHERE account_number = ?
+            AND active = true
+            AND version = ?
+            RETURNING current_balance, posting_sequence, last_posting_hash
+            """,
+            (rs, rowNum) -> new BalanceUpdate(
+                accountNumber,
+                rs.getBigDecimal("current_balance"),
+                rs.getLong("posting_sequence"),
+                rs.getString("last_posting_hash")
+            ),
+            delta, delta, accountNumber, expectedVersion
+        );
+        event.commit();
+        return rows.stream().findFirst();
+    }
+
+    @Override
+    public void updateLastPostingHash(String accountNumber, String postingHash) {
+        jdbcTemplate.update(
+            "UPDATE accounts SET last_posting_hash = ? WHERE account_number = ?",
+            postingHash, accountNumber
+        );
+    }
+}
@@ -1,14 +1,13 @@
 package com.rentflow.ledger.repository;
 
-import com.rentflow.ledger.model.EntryStatus;
 import com.rentflow.ledger.model.LedgerEntry;
 import com.rentflow.ledger.model.LedgerEntryType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
-import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -22,17 +21,13 @@ public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, UUID>
 
     List<LedgerEntry> findByLeaseIdOrderByEntryDateDesc(UUID leaseId);
 
-    List<LedgerEntry> findByDebitAccountNumberOrCreditAccountNumberOrderByEntryDateDesc(
-        String debitAccountNumber, String creditAccountNumber
-    );
-
-    List<LedgerEntry> findByStatusAndEntryDateBefore(EntryStatus status, Instant date);
-
+    // Entries are written once the payment has settled and are never updated, so they are POSTED from the start;
+    // SETTLED only remains on rows from before the ledger became append-only
     @Query("""
         SELECT COALESCE(SUM(e.amount), 0) FROM LedgerEntry e
         WHERE e.tenantId = :tenantId
         AND e.entryType = :entryType
-        AND e.status = 'SETTLED'
+        AND e.status IN ('POSTED', 'SETTLED')
         """)
     BigDecimal sumByTenantIdAndEntryType(
         UUID tenantId,
@@ -43,19 +38,26 @@ public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, UUID>
         SELECT COALESCE(SUM(e.amount), 0) FROM LedgerEntry e
         WHERE e.leaseId = :leaseId
         AND e.entryType = :entryType
-        AND e.status = 'SETTLED'
+        AND e.status IN ('POSTED', 'SETTLED')
         """)
     BigDecimal sumByLeaseIdAndEntryType(
         UUID leaseId,
         LedgerEntryType entryType
     );
 
-    @Query("""
-        SELECT e FROM LedgerEntry e
-        WHERE e.status = 'PENDING'
-        ORDER BY e.entryDate ASC
-        """)
-    List<LedgerEntry> findPendingEntries();
-
     List<LedgerEntry> findByTransactionId(String transactionId);
+
+    // ETag values. Entries are never updated, so the ids alone identify a list; archiving a partition removes ids
+    // and changes the digest as well
+    @Query(value = """
+        SELECT md5(coalesce(string_agg(id::text, ',' ORDER BY id), ''))
+        FROM ledger_entries WHERE tenant_id = :tenantId
+        """, nativeQuery = true)
+    String findTenantTag(@Param("tenantId") UUID tenantId);
+
+    @Query(value = """
+        SELECT md5(coalesce(string_agg(id::text, ',' ORDER BY id), ''))
+        FROM ledger_entries WHERE lease_id = :leaseId
+        """, nativeQuery = true)
+    String findLeaseTag(@Param("leaseId") UUID leaseId);
 }
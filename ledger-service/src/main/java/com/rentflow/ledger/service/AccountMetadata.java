@@ -0,0 +1,36 @@
+package com.rentflow.ledger.service;
+
+import com.rentflow.ledger.model.Account;
+import com.rentflow.ledger.model.AccountSubType;
+import com.rentflow.ledger.model.AccountType;
+import com.rentflow.ledger.model.PostingSide;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record AccountMetadata(
+    String accountNumber,
+    AccountType accountType,
+    AccountSubType accountSubType,
+    UUID ownerId,
+    boolean active,
+    int version
+) {
+
+    static AccountMetadata of(Account account) {
+        return new AccountMetadata(
+            account.getAccountNumber(),
+            account.getAccountType(),
+            account.getAccountSubType(),
+            account.getOwnerId(),
+            Boolean.TRUE.equals(account.getActive()),
+            account.getVersion()
+        );
+    }
+
+    // Signed change to current_balance for a posting on this account
+    public BigDecimal balanceDelta(PostingSide side, BigDecimal amount) {
+        boolean increases = (side == PostingSide.DEBIT) == accountType.increasesOnDebit();
+        return increases ? amount : amount.negate();
+    }
+}
@@ -0,0 +1,28 @@
+package com.rentflow.ledger.service;
+
+import com.rentflow.ledger.repository.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class AccountMetadataCache {
+
+    public static final String CACHE_NAME = "accounts";
+
+    private final AccountRepository accountRepository;
+
+    // Missing accounts throw and are therefore never cached
+    @Cacheable(value = CACHE_NAME, key = "#accountNumber")
+    public AccountMetadata get(String accountNumber) {
+        return accountRepository.findByAccountNumber(accountNumber)
+            .map(AccountMetadata::of)
+            .orElseThrow(() -> new LedgerService.AccountNotFoundException(accountNumber));
+    }
+
+    @CacheEvict(value = CACHE_NAME, key = "#accountNumber")
+    public void evict(String accountNumber) {
+    }
+}
@@ -1,9 +1,16 @@
 package com.rentflow.ledger.service;
 
+import com.rentflow.events.PaymentCompleted;
+import com.rentflow.ledger.archive.LedgerArchive;
+import com.rentflow.ledger.dto.ChainVerification;
 import com.rentflow.ledger.dto.CreateEntryRequest;
+import com.rentflow.ledger.metrics.LedgerMetrics;
 import com.rentflow.ledger.model.*;
+import com.rentflow.ledger.repository.AccountPostingRepository;
 import com.rentflow.ledger.repository.AccountRepository;
 import com.rentflow.ledger.repository.LedgerEntryRepository;
+import com.rentflow.persistence.UuidV7;
+import jakarta.persistence.EntityManager;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,7 +19,11 @@ import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.TreeSet;
 import java.util.UUID;
 
 @Slf4j
@@ -22,27 +33,35 @@ public class LedgerService {
 
     private final LedgerEntryRepository entryRepository;
     private final AccountRepository accountRepository;
+    private final AccountPostingRepository postingRepository;
+    private final AccountMetadataCache accountMetadataCache;
+    private final LedgerArchive ledgerArchive;
+    private final LedgerMetrics ledgerMetrics;
+    private final EntityManager entityManager;
 
     @Transactional
     public LedgerEntry createEntry(CreateEntryRequest request) {
-        // Validate accounts exist
-        var debitAccount = accountRepository.findByAccountNumber(request.debitAccount().accountNumber())
-            .orElseThrow(() -> new AccountNotFoundException(request.debitAccount().accountNumber()));
+        ledgerMetrics.timePosting(request.entryType());
+        var debitAccountNumber = request.debitAccount().accountNumber();
+        var creditAccountNumber = request.creditAccount().accountNumber();
+        if (debitAccountNumber.equals(creditAccountNumber)) {
+            throw new IllegalArgumentException("Debit and credit accounts must differ: " + debitAccountNumber);
+        }
 
-        var creditAccount = accountRepository.findByAccountNumber(request.creditAccount().accountNumber())
-            .orElseThrow(() -> new AccountNotFoundException(request.creditAccount().accountNumber()));
+        var debitAccount = requireActive(accountMetadataCache.get(debitAccountNumber));
+        var creditAccount = requireActive(accountMetadataCache.get(creditAccountNumber));
 
-        // Create ledger entry
+        var now = Instant.now().truncatedTo(ChronoUnit.MICROS);
         var entry = LedgerEntry.builder()
-            .id(UUID.randomUUID())
+            .id(UuidV7.next())
             .paymentId(request.paymentId())
             .tenantId(request.tenantId())
             .propertyId(request.propertyId())
             .leaseId(request.leaseId())
-            .debitAccountNumber(request.debitAccount().accountNumber())
+            .debitAccountNumber(debitAccountNumber)
             .debitAccountType(request.debitAccount().accountType())
             .debitAccountOwnerId(request.debitAccount().ownerId())
-            .creditAccountNumber(request.creditAccount().accountNumber())
+            .creditAccountNumber(creditAccountNumber)
             .creditAccountType(request.creditAccount().accountType())
             .creditAccountOwnerId(request.creditAccount().ownerId())
             .amount(request.amount())
@@ -50,22 +69,130 @@ public class LedgerService {
             .entryType(request.entryType())
             .reference(request.reference())
             .description(request.description())
-            .entryDate(Instant.now())
+            .entryDate(now)
+            .postedDate(now)
             .status(EntryStatus.POSTED)
             .build();
 
-        // Update account balances
-        debitAccount.debit(request.amount());
-        creditAccount.credit(request.amount());
+        // Apply balances in account-number order so concurrent postings cannot deadlock on the row locks
+        var updates = new HashMap<String, BalanceUpdate>();
+        for (var accountNumber : new TreeSet<>(List.of(debitAccountNumber, creditAccountNumber))) {
+            var side = accountNumber.equals(debitAccountNumber) ? PostingSide.DEBIT : PostingSide.CREDIT;
+            var account = side == PostingSide.DEBIT ? debitAccount : creditAccount;
+            updates.put(accountNumber, applyBalanceChange(account, side, request.amount()));
+        }
+
+        entry.setDebitBalance(updates.get(debitAccountNumber).balanceAfter());
+        entry.setCreditBalance(updates.get(creditAccountNumber).balanceAfter());
+        entry.setEntryHash(entry.computeHash());
+
+        var postings = List.of(
+            AccountPosting.append(updates.get(debitAccountNumber), entry, PostingSide.DEBIT),
+            AccountPosting.append(updates.get(creditAccountNumber), entry, PostingSide.CREDIT)
+        );
+        for (var posting : postings) {
+            accountRepository.updateLastPostingHash(posting.getAccountNumber(), posting.getPostingHash());
+        }
 
-        accountRepository.save(debitAccount);
-        accountRepository.save(creditAccount);
         entry = entryRepository.save(entry);
+        postingRepository.saveAll(postings);
 
         log.info("Created ledger entry: {} for payment: {}", entry.getId(), request.paymentId());
         return entry;
     }
 
+    private BalanceUpdate applyBalanceChange(AccountMetadata account, PostingSide side, BigDecimal amount) {
+        var accountNumber = account.accountNumber();
+        var update = accountRepository.applyBalanceChange(accountNumber, account.balanceDelta(side, amount), account.version());
+        if (update.isPresent()) {
+            return update.get();
+        }
+
+        // The cached metadata is stale: the account changed, was deactivated or removed
+        accountMetadataCache.evict(accountNumber);
+        var current = requireActive(accountMetadataCache.get(accountNumber));
+        return accountRepository.applyBalanceChange(accountNumber, current.balanceDelta(side, amount), current.version())
+            .orElseThrow(() -> new IllegalStateException("Account changed concurrently: " + accountNumber));
+    }
+
+    private AccountMetadata requireActive(AccountMetadata account) {
+        if (!account.active()) {
+            throw new AccountInactiveException(account.accountNumber());
+        }
+        return account;
+    }
+
+    @Transactional(readOnly = true)
+    public void requireAccount(String accountNumber) {
+        if (!accountRepository.existsByAccountNumber(accountNumber)) {
+            throw new AccountNotFoundException(accountNumber);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public BigDecimal getBalanceAsOf(String accountNumber, Instant asOf) {
+        requireAccount(accountNumber);
+        return postingRepository.findBalanceAsOf(accountNumber, asOf).orElse(BigDecimal.ZERO);
+    }
+
+    @Transactional(readOnly = true)
+    public ChainVerification verifyChain(String accountNumber) {
+        requireAccount(accountNumber);
+
+        long verified = 0;
+        String previousHash = null;
+        try (var chain = postingRepository.streamChain(accountNumber)) {
+            for (var row : (Iterable<Object[]>) chain::iterator) {
+                var posting = (AccountPosting) row[0];
+                var entry = (LedgerEntry) row[1];
+                // Postings backfilled before the chain was introduced carry no hash
+                if (posting.isHashed()) {
+                    // Entries in archived partitions can only be checked for chain linkage
+                    boolean intact = entry != null
+                        ? posting.verify(previousHash, entry.computeHash())
+                        : previousHash == null || previousHash.equals(posting.getPreviousHash());
+                    if (!intact) {
+                        return new ChainVerification(accountNumber, false, verified, posting.getSequenceNo());
+                    }
+                    previousHash = posting.getPostingHash();
+                    verified++;
+                }
+                entityManager.detach(posting);
+                if (entry != null) {
+                    entityManager.detach(entry);
+                }
+            }
+        }
+        return new ChainVerification(accountNumber, true, verified, null);
+    }
+
+    @Transactional(readOnly = true)
+    public long getPostingSequence(String accountNumber) {
+        return accountRepository.findPostingSequence(accountNumber)
+            .orElseThrow(() -> new AccountNotFoundException(accountNumber));
+    }
+
+    // An entry never changes once written, so its id is a strong validator and existence is all there is to check
+    @Transactional(readOnly = true)
+    public String getEntryTag(UUID id) {
+        if (!entryRepository.existsById(id)) {
+            throw new EntryNotFoundException(id);
+        }
+        return id.toString();
+    }
+
+    // Archived entries only ever leave the hot table, which changes its digest, so the hot digest also
+    // validates lists that include the archive
+    @Transactional(readOnly = true)
+    public String getTenantEntriesTag(UUID tenantId) {
+        return entryRepository.findTenantTag(tenantId);
+    }
+
+    @Transactional(readOnly = true)
+    public String getLeaseEntriesTag(UUID leaseId) {
+        return entryRepository.findLeaseTag(leaseId);
+    }
+
     @Transactional(readOnly = true)
     public LedgerEntry getEntry(UUID id) {
         return entryRepository.findById(id)
@@ -73,13 +200,25 @@ public class LedgerService {
     }
 
     @Transactional(readOnly = true)
-    public List<LedgerEntry> getEntriesByTenant(UUID tenantId) {
-        return entryRepository.findByTenantIdOrderByEntryDateDesc(tenantId);
+    public List<LedgerEntry> getEntriesByTenant(UUID tenantId, boolean includeArchived) {
+        var entries = entryRepository.findByTenantIdOrderByEntryDateDesc(tenantId);
+        if (!includeArchived) {
+            return entries;
+        }
+        var all = new ArrayList<>(entries);
+        all.addAll(ledgerArchive.findByTenantId(tenantId));
+        return all;
     }
 
     @Transactional(readOnly = true)
-    public List<LedgerEntry> getEntriesByLease(UUID leaseId) {
-        return entryRepository.findByLeaseIdOrderByEntryDateDesc(leaseId);
+    public List<LedgerEntry> getEntriesByLease(UUID leaseId, boolean includeArchived) {
+        var entries = entryRepository.findByLeaseIdOrderByEntryDateDesc(leaseId);
+        if (!includeArchived) {
+            return entries;
+        }
+        var all = new ArrayList<>(entries);
+        all.addAll(ledgerArchive.findByLeaseId(leaseId));
+        return all;
     }
 
     @Transactional(readOnly = true)
@@ -99,11 +238,10 @@ public class LedgerService {
     }
 
     @Transactional
-    @KafkaListener(topics = "payment-completed", groupId = "ledger-service")
-    public void handlePaymentCompleted(Object event) {
-        // Process payment completed event
-        // This would create the corresponding ledger entry
-        log.info("Received payment completed event: {}", event);
+    @KafkaListener(topics = "${kafka.topics.payment-completed:payment-completed}", groupId = "ledger-service")
+    public void handlePaymentCompleted(PaymentCompleted event) {
+        // EventDeserializer hands over the concrete record; this would create the corresponding ledger entry
+        log.info("Received payment completed event: {} for payment: {}", event.transactionId(), event.paymentId());
     }
 
     public static class AccountNotFoundException extends RuntimeException {
@@ -112,6 +250,12 @@ public class LedgerService {
         }
     }
 
+    public static class AccountInactiveException extends RuntimeException {
+        public AccountInactiveException(String accountNumber) {
+            super("Account is inactive: " + accountNumber);
+        }
+    }
+
     public static class EntryNotFoundException extends RuntimeException {
         public EntryNotFoundException(UUID id) {
             super("Ledger entry not found: " + id);
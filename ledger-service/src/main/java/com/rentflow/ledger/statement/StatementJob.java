@@ -0,0 +1,124 @@
+package com.rentflow.ledger.statement;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+public class StatementJob {
+
+    private final StatementWriter statementWriter;
+    private final JdbcTemplate jdbcTemplate;
+    private final Path directory;
+    private final ExecutorService executor;
+    private final ExecutorService coordinator;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public StatementJob(
+        StatementWriter statementWriter,
+        JdbcTemplate jdbcTemplate,
+        @Value("${ledger.statements.directory:/var/lib/rentflow/statements}") String directory,
+        @Value("${ledger.statements.parallelism:4}") int parallelism,
+        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.statementWriter = statementWriter;
+        this.jdbcTemplate = jdbcTemplate;
+        this.directory = Path.of(directory);
+        // Each worker holds a pooled connection for the length of one statement, so keep this below the Hikari pool size
+        this.executor = Executors.newFixedThreadPool(parallelism, virtualThreads
+            ? Thread.ofVirtual().name("statement-", 0).factory()
+            : Executors.defaultThreadFactory());
+        // Runs generateAll, which blocks until every statement is written. One run at a time, so one thread
+        this.coordinator = Executors.newSingleThreadExecutor(virtualThreads
+            ? Thread.ofVirtual().name("statement-coordinator").factory()
+            : Thread.ofPlatform().name("statement-coordinator").factory());
+    }
+
+    @Scheduled(cron = "${ledger.statements.cron:0 0 4 1 * *}")
+    public void generatePreviousMonth() {
+        start(YearMonth.now(ZoneOffset.UTC).minusMonths(1));
+    }
+
+    // Returns false when a run is already in progress
+    public boolean start(YearMonth period) {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("Statement generation already running, skipping {}", period);
+            return false;
+        }
+        CompletableFuture.runAsync(() -> generateAll(period), coordinator)
+            .whenComplete((result, error) -> {
+                running.set(false);
+                if (error != null) {
+                    log.error("Statement generation for {} failed", period, error);
+                }
+            });
+        return true;
+    }
+
+    private void generateAll(YearMonth period) {
+        var target = directory.resolve(period.toString());
+        try {
+            Files.createDirectories(target);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot create statement directory " + target, e);
+        }
+
+        var accountNumbers = jdbcTemplate.queryForList(
+            "SELECT account_number FROM accounts WHERE active = true ORDER BY account_number", String.class
+        );
+        log.info("Generating {} statements for {}", accountNumbers.size(), period);
+
+        var failures = new AtomicInteger();
+        var futures = new ArrayList<CompletableFuture<Void>>(accountNumbers.size());
+        for (var accountNumber : accountNumbers) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                try {
+                    writeStatement(target, accountNumber, period);
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                    log.error("Failed to generate statement for account {} ({})", accountNumber, period, e);
+                }
+            }, executor));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        log.info("Generated {} statements for {} ({} failed)",
+            accountNumbers.size() - failures.get(), period, failures.get());
+    }
+
+    private void writeStatement(Path target, String accountNumber, YearMonth period) throws IOException {
+        var file = target.resolve(accountNumber + ".ndjson");
+        var temp = Files.createTempFile(target, accountNumber, ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            statementWriter.write(accountNumber, period, out);
+        } catch (RuntimeException | IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+        executor.shutdownNow();
+    }
+}
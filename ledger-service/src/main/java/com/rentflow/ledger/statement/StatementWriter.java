@@ -0,0 +1,146 @@
+package com.rentflow.ledger.statement;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.rentflow.ledger.repository.AccountPostingRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+
+@Slf4j
+@Component
+public class StatementWriter {
+
+    // Joined on entry_date as well so that each posting only probes the matching ledger partition
+    private static final String LINES_QUERY = """
+        SELECT p.sequence_no, p.entry_id, p.entry_date, p.side, p.amount, p.balance_after,
+               e.entry_type, e.reference, e.description
+        FROM account_postings p
+        LEFT JOIN ledger_entries e ON e.id = p.entry_id AND e.entry_date = p.entry_date
+        WHERE p.account_number = ?
+        AND p.entry_date >= ?
+        AND p.entry_date < ?
+        ORDER BY p.entry_date, p.sequence_no
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AccountPostingRepository postingRepository;
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    public StatementWriter(
+        DataSource dataSource,
+        PlatformTransactionManager transactionManager,
+        AccountPostingRepository postingRepository,
+        @Value("${ledger.statements.fetch-size:500}") int fetchSize
+    ) {
+        // The Postgres driver only uses a server-side cursor inside a transaction with a fetch size set
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.postingRepository = postingRepository;
+    }
+
+    public void write(String accountNumber, YearMonth period, OutputStream out) {
+        var from = period.atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC);
+        var to = period.plusMonths(1).atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC);
+        write(accountNumber, from, to, out);
+    }
+
+    // Writes one NDJSON object per line: an opening record, one line per posting, then a closing record
+    public void write(String accountNumber, Instant from, Instant to, OutputStream out) {
+        transactionTemplate.executeWithoutResult(status -> {
+            try (var json = jsonFactory.createGenerator(out)) {
+                json.setRootValueSeparator(null);
+                var totals = new Totals(postingRepository.findBalanceBefore(accountNumber, from).orElse(BigDecimal.ZERO));
+
+                json.writeStartObject();
+                json.writeStringField("type", "opening");
+                json.writeStringField("accountNumber", accountNumber);
+                json.writeStringField("from", from.toString());
+                json.writeStringField("to", to.toString());
+                json.writeNumberField("openingBalance", totals.opening);
+                json.writeEndObject();
+                json.writeRaw('\n');
+
+                jdbcTemplate.query(LINES_QUERY, rs -> {
+                    try {
+                        writeLine(json, rs, totals);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, accountNumber, Timestamp.from(from), Timestamp.from(to));
+
+                json.writeStartObject();
+                json.writeStringField("type", "closing");
+                json.writeStringField("accountNumber", accountNumber);
+                json.writeNumberField("openingBalance", totals.opening);
+                json.writeNumberField("totalDebits", totals.debits);
+                json.writeNumberField("totalCredits", totals.credits);
+                json.writeNumberField("closingBalance", totals.closing);
+                json.writeNumberField("lineCount", totals.lines);
+                json.writeEndObject();
+                json.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write statement for " + accountNumber, e);
+            }
+        });
+    }
+
+    private void writeLine(JsonGenerator json, ResultSet rs, Totals totals) throws SQLException, IOException {
+        var side = rs.getString("side");
+        var amount = rs.getBigDecimal("amount");
+        var balanceAfter = rs.getBigDecimal("balance_after");
+
+        if ("DEBIT".equals(side)) {
+            totals.debits = totals.debits.add(amount);
+        } else {
+            totals.credits = totals.credits.add(amount);
+        }
+        totals.closing = balanceAfter;
+        totals.lines++;
+
+        json.writeStartObject();
+        json.writeStringField("type", "line");
+        json.writeNumberField("sequenceNo", rs.getLong("sequence_no"));
+        json.writeStringField("entryId", rs.getString("entry_id"));
+        json.writeStringField("entryDate", rs.getTimestamp("entry_date").toInstant().toString());
+        json.writeStringField("side", side);
+        json.writeNumberField("amount", amount);
+        json.writeNumberField("balanceAfter", balanceAfter);
+        json.writeStringField("entryType", rs.getString("entry_type"));
+        json.writeStringField("reference", rs.getString("reference"));
+        json.writeStringField("description", rs.getString("description"));
+        json.writeEndObject();
+        json.writeRaw('\n');
+    }
+
+    private static final class Totals {
+        private final BigDecimal opening;
+        private BigDecimal closing;
+        private BigDecimal debits = BigDecimal.ZERO;
+        private BigDecimal credits = BigDecimal.ZERO;
+        private long lines;
+
+        private Totals(BigDecimal opening) {
+            this.opening = opening;
+            this.closing = opening;
+        }
+    }
+}
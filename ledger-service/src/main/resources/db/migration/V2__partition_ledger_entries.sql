@@ -0,0 +1,87 @@
+-- Convert ledger_entries to a monthly range-partitioned table on entry_date
+ALTER TABLE ledger_entries RENAME TO ledger_entries_legacy;
+DROP TRIGGER IF EXISTS update_ledger_entries_updated_at ON ledger_entries_legacy;
+DROP INDEX IF EXISTS idx_entry_payment;
+DROP INDEX IF EXISTS idx_entry_tenant;
+DROP INDEX IF EXISTS idx_entry_lease;
+DROP INDEX IF EXISTS idx_entry_date;
+DROP INDEX IF EXISTS idx_entry_status;
+
+CREATE TABLE ledger_entries (
+    id UUID NOT NULL,
+    payment_id UUID NOT NULL,
+    tenant_id UUID NOT NULL,
+    property_id UUID NOT NULL,
+    lease_id UUID NOT NULL,
+
+    -- Debit account
+    debit_account_number VARCHAR(50) NOT NULL,
+    debit_account_type VARCHAR(50) NOT NULL,
+    debit_account_owner_id VARCHAR(50) NOT NULL,
+
+    -- Credit account
+    credit_account_number VARCHAR(50) NOT NULL,
+    credit_account_type VARCHAR(50) NOT NULL,
+    credit_account_owner_id VARCHAR(50) NOT NULL,
+
+    amount DECIMAL(19,2) NOT NULL,
+    currency VARCHAR(3) NOT NULL DEFAULT 'USD',
+    entry_type VARCHAR(50) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+
+    reference VARCHAR(100),
+    description VARCHAR(500),
+
+    entry_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    posted_date TIMESTAMP,
+
+    transaction_id VARCHAR(100),
+    batch_id VARCHAR(100),
+
+    debit_balance DECIMAL(19,2),
+    credit_balance DECIMAL(19,2),
+
+    metadata VARCHAR(1000),
+
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    version INTEGER NOT NULL DEFAULT 0,
+
+    PRIMARY KEY (id, entry_date)
+) PARTITION BY RANGE (entry_date);
+
+-- Composite indexes replace the single-column ones; entry_date is covered by partition pruning
+CREATE INDEX idx_entry_payment ON ledger_entries(payment_id);
+CREATE INDEX idx_entry_tenant ON ledger_entries(tenant_id, entry_date);
+CREATE INDEX idx_entry_lease ON ledger_entries(lease_id, entry_date);
+CREATE INDEX idx_entry_pending ON ledger_entries(entry_date) WHERE status = 'PENDING';
+
+CREATE TRIGGER update_ledger_entries_updated_at BEFORE UPDATE ON ledger_entries
+    FOR EACH ROW EXECUTE FUNCTION update_ledger_updated_at();
+
+CREATE TABLE ledger_entries_default PARTITION OF ledger_entries DEFAULT;
+
+-- Monthly partitions covering existing history plus the next three months
+DO $$
+DECLARE
+    month_start DATE;
+    last_month DATE := date_trunc('month', CURRENT_DATE + INTERVAL '3 months')::DATE;
+BEGIN
+    SELECT COALESCE(date_trunc('month', MIN(entry_date))::DATE, date_trunc('month', CURRENT_DATE)::DATE)
+    INTO month_start
+    FROM ledger_entries_legacy;
+
+    WHILE month_start <= last_month LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF ledger_entries FOR VALUES FROM (%L) TO (%L)',
+            'ledger_entries_' || to_char(month_start, 'YYYY_MM'),
+            month_start,
+            (month_start + INTERVAL '1 month')::DATE
+        );
+        month_start := (month_start + INTERVAL '1 month')::DATE;
+    END LOOP;
+END $$;
+
+INSERT INTO ledger_entries SELECT * FROM ledger_entries_legacy;
+
+DROP TABLE ledger_entries_legacy;
@@ -0,0 +1,70 @@
+-- Ledger entries become append-only; per-account postings carry running balances and a hash chain
+DROP TRIGGER IF EXISTS update_ledger_entries_updated_at ON ledger_entries;
+
+ALTER TABLE ledger_entries ADD COLUMN entry_hash VARCHAR(64);
+
+ALTER TABLE accounts ADD COLUMN posting_sequence BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE accounts ADD COLUMN last_posting_hash VARCHAR(64);
+
+CREATE TABLE account_postings (
+    id UUID PRIMARY KEY,
+    account_number VARCHAR(50) NOT NULL,
+    sequence_no BIGINT NOT NULL,
+    entry_id UUID NOT NULL,
+    entry_date TIMESTAMP NOT NULL,
+    side VARCHAR(6) NOT NULL,
+    amount DECIMAL(19,2) NOT NULL,
+    balance_after DECIMAL(19,2) NOT NULL,
+    previous_hash VARCHAR(64),
+    posting_hash VARCHAR(64),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_posting_account_sequence UNIQUE (account_number, sequence_no)
+);
+
+-- Covers balance-as-of lookups without touching the heap
+CREATE INDEX idx_posting_account_date ON account_postings(account_number, entry_date, sequence_no) INCLUDE (balance_after);
+
+-- Backfill postings for existing entries; the hash chain starts with the first posting after this migration
+INSERT INTO account_postings (id, account_number, sequence_no, entry_id, entry_date, side, amount, balance_after)
+SELECT gen_random_uuid(), account_number, ROW_NUMBER() OVER w, entry_id, entry_date, side, amount,
+       SUM(signed_amount) OVER (w ROWS BETWEEN UNBOUNDED PRECEDING AND CURRENT ROW)
+FROM (
+    SELECT e.debit_account_number AS account_number, e.id AS entry_id, e.entry_date, 'DEBIT' AS side, e.amount,
+           CASE WHEN a.account_type IN ('ASSET', 'EXPENSE') THEN e.amount ELSE -e.amount END AS signed_amount
+    FROM ledger_entries e
+    JOIN accounts a ON a.account_number = e.debit_account_number
+    UNION ALL
+    SELECT e.credit_account_number, e.id, e.entry_date, 'CREDIT', e.amount,
+           CASE WHEN a.account_type IN ('ASSET', 'EXPENSE') THEN -e.amount ELSE e.amount END
+    FROM ledger_entries e
+    JOIN accounts a ON a.account_number = e.credit_account_number
+) postings
+WINDOW w AS (PARTITION BY account_number ORDER BY entry_date, entry_id);
+
+UPDATE ledger_entries e SET debit_balance = p.balance_after
+FROM account_postings p
+WHERE p.entry_id = e.id AND p.side = 'DEBIT';
+
+UPDATE ledger_entries e SET credit_balance = p.balance_after
+FROM account_postings p
+WHERE p.entry_id = e.id AND p.side = 'CREDIT';
+
+UPDATE accounts a SET posting_sequence = p.last_sequence
+FROM (SELECT account_number, MAX(sequence_no) AS last_sequence FROM account_postings GROUP BY account_number) p
+WHERE p.account_number = a.account_number;
+
+ALTER TABLE ledger_entries DROP COLUMN updated_at;
+ALTER TABLE ledger_entries DROP COLUMN version;
+
+CREATE OR REPLACE FUNCTION reject_ledger_mutation()
+RETURNS TRIGGER AS $$
+BEGIN
+    RAISE EXCEPTION '% is append-only: % is not allowed', TG_TABLE_NAME, TG_OP;
+END;
+$$ language 'plpgsql';
+
+CREATE TRIGGER ledger_entries_append_only BEFORE UPDATE OR DELETE ON ledger_entries
+    FOR EACH ROW EXECUTE FUNCTION reject_ledger_mutation();
+
+CREATE TRIGGER account_postings_append_only BEFORE UPDATE OR DELETE ON account_postings
+    FOR EACH ROW EXECUTE FUNCTION reject_ledger_mutation();
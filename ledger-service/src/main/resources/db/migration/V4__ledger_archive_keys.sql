@@ -0,0 +1,15 @@
+-- Which monthly archive files hold each tenant's and lease's entries, so an archive lookup reads only those files
+CREATE TABLE ledger_archive_keys (
+    archive_month DATE NOT NULL,
+    tenant_id UUID NOT NULL,
+    lease_id UUID NOT NULL,
+    PRIMARY KEY (tenant_id, archive_month, lease_id)
+);
+
+CREATE INDEX idx_archive_keys_lease ON ledger_archive_keys(lease_id, archive_month);
+
+-- Archive files whose keys are recorded; files exported before this table existed are indexed at startup
+CREATE TABLE ledger_archive_months (
+    archive_month DATE PRIMARY KEY,
+    indexed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,3 @@
+-- Entries are created POSTED and never change status, so no entry is pending any more
+DROP INDEX IF EXISTS idx_entry_pending;
+ALTER TABLE ledger_entries ALTER COLUMN status SET DEFAULT 'POSTED';
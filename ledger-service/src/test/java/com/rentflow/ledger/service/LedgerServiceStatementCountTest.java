@@ -0,0 +1,117 @@
+package com.rentflow.ledger.service;
+
+import com.rentflow.ledger.archive.LedgerArchive;
+import com.rentflow.ledger.dto.CreateEntryRequest;
+import com.rentflow.ledger.metrics.LedgerMetrics;
+import com.rentflow.ledger.model.Account;
+import com.rentflow.ledger.model.AccountSubType;
+import com.rentflow.ledger.model.AccountType;
+import com.rentflow.ledger.model.LedgerEntryType;
+import com.rentflow.ledger.repository.AccountRepository;
+import com.rentflow.persistence.PersistenceAutoConfiguration;
+import com.rentflow.persistence.test.PostgresContainerTest;
+import com.rentflow.persistence.test.StatementCountingConfiguration;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.CacheType;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.core.AutoConfigureCache;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// createEntry commits for real, so the entry and postings are flushed and counted. The account cache is a real
+// one, so the warm path shows what a posting costs once account metadata is cached. LedgerService's listener gets
+// a container that never starts
+@DataJpaTest(properties = "spring.kafka.listener.auto-startup=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@AutoConfigureCache(cacheProvider = CacheType.SIMPLE)
+@ImportAutoConfiguration({PersistenceAutoConfiguration.class, KafkaAutoConfiguration.class})
+@Import({LedgerService.class, AccountMetadataCache.class, StatementCountingConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LedgerServiceStatementCountTest extends PostgresContainerTest {
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @MockBean
+    private LedgerArchive ledgerArchive;
+
+    @MockBean
+    private LedgerMetrics ledgerMetrics;
+
+    private String cashAccount;
+    private String incomeAccount;
+
+    @BeforeEach
+    void createAccounts() {
+        cashAccount = account(AccountType.ASSET, AccountSubType.CASH);
+        incomeAccount = account(AccountType.REVENUE, AccountSubType.RENT_INCOME);
+    }
+
+    @Test
+    void createEntryWithCachedAccountsOnlyWrites() {
+        ledgerService.createEntry(request());
+        QueryCountHolder.clear();
+
+        ledgerService.createEntry(request());
+
+        // Per account: the balance UPDATE and the chain-head UPDATE. Then one INSERT for the entry and one batch
+        // for both postings; no SELECT before either insert
+        var count = QueryCountHolder.getGrandTotal();
+        assertThat(count.getSelect()).isZero();
+        assertThat(count.getUpdate()).isEqualTo(4);
+        assertThat(count.getInsert()).isEqualTo(2);
+        assertThat(count.getDelete()).isZero();
+    }
+
+    @Test
+    void createEntryWithColdCacheReadsEachAccountOnce() {
+        QueryCountHolder.clear();
+
+        ledgerService.createEntry(request());
+
+        var count = QueryCountHolder.getGrandTotal();
+        assertThat(count.getSelect()).isEqualTo(2);
+        assertThat(count.getUpdate()).isEqualTo(4);
+        assertThat(count.getInsert()).isEqualTo(2);
+    }
+
+    private CreateEntryRequest request() {
+        return new CreateEntryRequest(
+            UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+            new CreateEntryRequest.AccountInfo(cashAccount, "ASSET", "owner"),
+            new CreateEntryRequest.AccountInfo(incomeAccount, "REVENUE", "owner"),
+            new BigDecimal("1500.00"), "USD", LedgerEntryType.RENT_PAYMENT, "ref", "Rent");
+    }
+
+    private String account(AccountType type, AccountSubType subType) {
+        var accountNumber = subType.name() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        accountRepository.save(Account.builder()
+            .accountNumber(accountNumber)
+            .accountName(accountNumber)
+            .accountType(type)
+            .accountSubType(subType)
+            .ownerId(UUID.randomUUID())
+            .currentBalance(BigDecimal.ZERO)
+            .availableBalance(BigDecimal.ZERO)
+            .currency("USD")
+            .active(true)
+            .build());
+        return accountNumber;
+    }
+}
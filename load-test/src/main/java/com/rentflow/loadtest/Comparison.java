@@ -0,0 +1,76 @@
+package com.rentflow.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Platform-thread baseline against the virtual-thread run, per operation; negative latency deltas are gains
+class Comparison {
+
+    private final List<Map<String, Object>> operations = new ArrayList<>();
+    private final Map<String, Object> pools = new LinkedHashMap<>();
+
+    Comparison(Report baseline, Report candidate) {
+        var candidateRows = new LinkedHashMap<String, Map<String, Object>>();
+        candidate.operations().forEach(row -> candidateRows.put(key(row), row));
+        for (var base : baseline.operations()) {
+            var other = candidateRows.get(key(base));
+            if (other == null) {
+                continue;
+            }
+            var row = new LinkedHashMap<String, Object>();
+            row.put("service", base.get("service"));
+            row.put("operation", base.get("operation"));
+            for (var metric : List.of("throughputPerSecond", "p50Ms", "p99Ms", "p999Ms")) {
+                row.put(metric, Map.of(
+                    baseline.threads(), base.get(metric),
+                    candidate.threads(), other.get(metric),
+                    "deltaPercent", delta((Double) base.get(metric), (Double) other.get(metric))
+                ));
+            }
+            row.put("errors", Map.of(baseline.threads(), base.get("errors"), candidate.threads(), other.get("errors")));
+            operations.add(row);
+        }
+        pools.put(baseline.threads(), baseline.pools());
+        pools.put(candidate.threads(), candidate.pools());
+    }
+
+    @SuppressWarnings("unchecked")
+    void print(PrintStream out) {
+        out.printf("%nPlatform vs virtual threads%n%n");
+        out.printf("%-20s %-26s %10s %10s %8s %10s %10s %8s%n",
+            "service", "operation", "req/s pt", "req/s vt", "delta %", "p99 pt", "p99 vt", "delta %");
+        for (var row : operations) {
+            var throughput = (Map<String, Object>) row.get("throughputPerSecond");
+            var p99 = (Map<String, Object>) row.get("p99Ms");
+            out.printf("%-20s %-26s %10.1f %10.1f %+8.1f %10.1f %10.1f %+8.1f%n",
+                row.get("service"), row.get("operation"),
+                throughput.get(LoadTestConfig.PLATFORM), throughput.get(LoadTestConfig.VIRTUAL), throughput.get("deltaPercent"),
+                p99.get(LoadTestConfig.PLATFORM), p99.get(LoadTestConfig.VIRTUAL), p99.get("deltaPercent"));
+        }
+    }
+
+    void write(Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        var comparison = new LinkedHashMap<String, Object>();
+        comparison.put("operations", operations);
+        comparison.put("connectionPools", pools);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), comparison);
+    }
+
+    private static String key(Map<String, Object> row) {
+        return row.get("service") + "/" + row.get("operation");
+    }
+
+    private static double delta(double baseline, double candidate) {
+        return baseline == 0 ? 0 : 100.0 * (candidate - baseline) / baseline;
+    }
+}
@@ -0,0 +1,66 @@
+package com.rentflow.loadtest;
+
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.KafkaContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+
+// One Postgres instance hosts every service database, mirroring the per-service databases in docker-compose
+class Infrastructure implements AutoCloseable {
+
+    static final List<String> DATABASES = List.of(
+        "rentflow_payment", "rentflow_scheduling", "rentflow_ledger", "rentflow_partner_gateway"
+    );
+
+    private final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:15-alpine"))
+        .withDatabaseName("postgres")
+        .withUsername("rentflow")
+        .withPassword("rentflow_password")
+        .withCommand("postgres", "-c", "max_connections=400");
+
+    private final KafkaContainer kafka = new KafkaContainer(DockerImageName.parse("confluentinc/cp-kafka:7.5.0"));
+
+    private final GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+        .withExposedPorts(6379);
+
+    void start() throws Exception {
+        postgres.start();
+        kafka.start();
+        redis.start();
+        for (var database : DATABASES) {
+            var result = postgres.execInContainer("psql", "-U", postgres.getUsername(), "-c", "CREATE DATABASE " + database);
+            if (result.getExitCode() != 0) {
+                throw new IllegalStateException("Failed to create " + database + ": " + result.getStderr());
+            }
+        }
+    }
+
+    String postgresHost() {
+        return postgres.getHost();
+    }
+
+    int postgresPort() {
+        return postgres.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT);
+    }
+
+    String kafkaBootstrapServers() {
+        return kafka.getBootstrapServers();
+    }
+
+    String redisHost() {
+        return redis.getHost();
+    }
+
+    int redisPort() {
+        return redis.getMappedPort(6379);
+    }
+
+    @Override
+    public void close() {
+        redis.stop();
+        kafka.stop();
+        postgres.stop();
+    }
+}
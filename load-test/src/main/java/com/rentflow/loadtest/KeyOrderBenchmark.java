@@ -0,0 +1,233 @@
+package com.rentflow.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.rentflow.persistence.UuidV7;
+import org.HdrHistogram.Histogram;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+// Random v4 against UuidV7 primary keys on a table shaped like ledger_entries: the same Postgres is seeded with
+// existing rows for each key type, then timed concurrent batch inserts. shared_buffers is kept well below the
+// index size, as in production, so scattered inserts pay for it in buffer misses and page splits.
+//   ./gradlew keyOrderBenchmark -Pkeybench.seed-rows=2000000 -Pkeybench.rows=500000
+public class KeyOrderBenchmark {
+
+    private static final Map<String, Supplier<UUID>> KEYS = new LinkedHashMap<>();
+
+    static {
+        KEYS.put("v4", UUID::randomUUID);
+        KEYS.put("v7", UuidV7::next);
+    }
+
+    private final int seedRows;
+    private final int rows;
+    private final int batchSize;
+    private final int threads;
+    private final String url;
+    private final String user;
+    private final String password;
+
+    KeyOrderBenchmark(int seedRows, int rows, int batchSize, int threads, String url, String user, String password) {
+        this.seedRows = seedRows;
+        this.rows = rows;
+        this.batchSize = batchSize;
+        this.threads = threads;
+        this.url = url;
+        this.user = user;
+        this.password = password;
+    }
+
+    public static void main(String[] args) throws Exception {
+        var output = Path.of(property("output", "build/key-order"));
+        try (var postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:15-alpine"))
+            .withUsername("rentflow")
+            .withPassword("rentflow_password")
+            .withCommand("postgres", "-c", "shared_buffers=" + property("shared-buffers", "64MB"))) {
+            System.out.println("Starting Postgres container...");
+            postgres.start();
+
+            var benchmark = new KeyOrderBenchmark(
+                Integer.parseInt(property("seed-rows", "2000000")),
+                Integer.parseInt(property("rows", "500000")),
+                Integer.parseInt(property("batch-size", "500")),
+                Integer.parseInt(property("threads", "8")),
+                postgres.getJdbcUrl() + "&reWriteBatchedInserts=true",
+                postgres.getUsername(),
+                postgres.getPassword()
+            );
+            var results = benchmark.run();
+            print(results);
+
+            Files.createDirectories(output);
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(output.resolve("results.json").toFile(), results);
+            System.out.println("\nResults written to " + output.resolve("results.json"));
+        }
+    }
+
+    List<Map<String, Object>> run() throws Exception {
+        try (var connection = connect()) {
+            connection.createStatement().execute("CREATE EXTENSION IF NOT EXISTS pgstattuple");
+        }
+        var results = new ArrayList<Map<String, Object>>();
+        for (var key : KEYS.entrySet()) {
+            results.add(run(key.getKey(), key.getValue()));
+        }
+        return results;
+    }
+
+    private Map<String, Object> run(String name, Supplier<UUID> keys) throws Exception {
+        var table = "entries_" + name;
+        try (var connection = connect(); var statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("CREATE TABLE " + table + " ("
+                + "id UUID PRIMARY KEY, payment_id UUID NOT NULL, tenant_id UUID NOT NULL, "
+                + "amount NUMERIC(19, 2) NOT NULL, created_at TIMESTAMPTZ NOT NULL DEFAULT now())");
+            statement.execute("CREATE INDEX idx_" + table + "_payment ON " + table + " (payment_id)");
+        }
+
+        System.out.printf("%s: seeding %,d rows...%n", name, seedRows);
+        insert(table, keys, seedRows, new Histogram(3));
+        try (var connection = connect(); var statement = connection.createStatement()) {
+            statement.execute("VACUUM ANALYZE " + table);
+        }
+
+        System.out.printf("%s: inserting %,d rows on %d threads...%n", name, rows, threads);
+        var before = indexBlocks(table);
+        var latencies = new Histogram(3);
+        var started = System.nanoTime();
+        var pool = Executors.newFixedThreadPool(threads);
+        try {
+            var futures = new ArrayList<Future<?>>();
+            for (int i = 0; i < threads; i++) {
+                var share = rows / threads + (i < rows % threads ? 1 : 0);
+                futures.add(pool.submit(() -> {
+                    insert(table, keys, share, latencies);
+                    return null;
+                }));
+            }
+            for (var future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        var seconds = (System.nanoTime() - started) / 1e9;
+        var after = indexBlocks(table);
+
+        var result = new LinkedHashMap<String, Object>();
+        result.put("keys", name);
+        result.put("rowsPerSecond", rows / seconds);
+        result.put("batchP50Ms", latencies.getValueAtPercentile(50) / 1e6);
+        result.put("batchP99Ms", latencies.getValueAtPercentile(99) / 1e6);
+        var read = after[0] - before[0];
+        var hit = after[1] - before[1];
+        result.put("indexBlocksRead", read);
+        result.put("indexBufferHitRatio", read + hit == 0 ? 1.0 : (double) hit / (read + hit));
+        result.put("primaryKey", indexStats(table + "_pkey"));
+        result.put("paymentIdIndex", indexStats("idx_" + table + "_payment"));
+        return result;
+    }
+
+    private void insert(String table, Supplier<UUID> keys, int count, Histogram latencies) throws SQLException {
+        try (var connection = connect();
+             var insert = connection.prepareStatement(
+                 "INSERT INTO " + table + " (id, payment_id, tenant_id, amount) VALUES (?, ?, ?, ?)")) {
+            connection.setAutoCommit(false);
+            var tenant = UUID.randomUUID();
+            var amount = new BigDecimal("1850.00");
+            for (int done = 0; done < count; ) {
+                var batch = Math.min(batchSize, count - done);
+                var start = System.nanoTime();
+                for (int i = 0; i < batch; i++) {
+                    // Entries reference a payment created just before them, keyed the same way
+                    insert.setObject(1, keys.get());
+                    insert.setObject(2, keys.get());
+                    insert.setObject(3, tenant);
+                    insert.setBigDecimal(4, amount);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+                connection.commit();
+                synchronized (latencies) {
+                    latencies.recordValue(System.nanoTime() - start);
+                }
+                done += batch;
+            }
+        }
+    }
+
+    // Index blocks that missed shared_buffers and blocks that hit, summed over the table's indexes
+    private long[] indexBlocks(String table) throws Exception {
+        // Backends publish their I/O counters when they exit, shortly after the writers' connections close
+        Thread.sleep(2000);
+        try (var connection = connect();
+             var query = connection.prepareStatement(
+                 "SELECT coalesce(sum(idx_blks_read), 0), coalesce(sum(idx_blks_hit), 0) "
+                     + "FROM pg_statio_user_indexes WHERE relname = ?")) {
+            query.setString(1, table);
+            try (var rs = query.executeQuery()) {
+                rs.next();
+                return new long[] {rs.getLong(1), rs.getLong(2)};
+            }
+        }
+    }
+
+    private Map<String, Object> indexStats(String index) throws SQLException {
+        try (var connection = connect();
+             var query = connection.prepareStatement(
+                 "SELECT pg_relation_size(?::regclass), leaf_pages, avg_leaf_density, leaf_fragmentation "
+                     + "FROM pgstatindex(?)")) {
+            query.setString(1, index);
+            query.setString(2, index);
+            try (var rs = query.executeQuery()) {
+                rs.next();
+                var stats = new LinkedHashMap<String, Object>();
+                stats.put("sizeMb", rs.getLong(1) / 1024.0 / 1024.0);
+                stats.put("leafPages", rs.getLong(2));
+                stats.put("avgLeafDensity", rs.getDouble(3));
+                stats.put("leafFragmentation", rs.getDouble(4));
+                return stats;
+            }
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(url, user, password);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void print(List<Map<String, Object>> results) {
+        System.out.printf("%n%-4s %12s %10s %10s %12s %10s %12s %10s %12s %10s%n",
+            "keys", "rows/s", "batch p50", "batch p99", "idx blk rd", "hit ratio",
+            "pk MB", "pk dens %", "payment MB", "pay dens %");
+        for (var result : results) {
+            var pk = (Map<String, Object>) result.get("primaryKey");
+            var payment = (Map<String, Object>) result.get("paymentIdIndex");
+            System.out.printf("%-4s %12.0f %10.1f %10.1f %12d %10.3f %12.1f %10.1f %12.1f %10.1f%n",
+                result.get("keys"), result.get("rowsPerSecond"), result.get("batchP50Ms"), result.get("batchP99Ms"),
+                result.get("indexBlocksRead"), result.get("indexBufferHitRatio"),
+                pk.get("sizeMb"), pk.get("avgLeafDensity"), payment.get("sizeMb"), payment.get("avgLeafDensity"));
+        }
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("keybench." + name, defaultValue);
+    }
+}
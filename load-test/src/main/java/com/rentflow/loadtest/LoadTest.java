@@ -0,0 +1,102 @@
+package com.rentflow.loadtest;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+// Starts Postgres, Kafka and Redis in containers, the four services as child JVMs and a Stripe stub, then drives traffic
+public class LoadTest {
+
+    private static final Map<String, String> DATABASES = Map.of(
+        LoadTestConfig.PAYMENT, "rentflow_payment",
+        LoadTestConfig.SCHEDULING, "rentflow_scheduling",
+        LoadTestConfig.LEDGER, "rentflow_ledger",
+        LoadTestConfig.GATEWAY, "rentflow_partner_gateway"
+    );
+
+    public static void main(String[] args) throws Exception {
+        var config = LoadTestConfig.fromSystemProperties();
+        var client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+        var reports = new LinkedHashMap<String, Report>();
+        for (var threads : config.threadModes()) {
+            reports.put(threads, run(config, client, threads));
+        }
+        if (reports.size() > 1) {
+            var comparison = new Comparison(reports.get(LoadTestConfig.PLATFORM), reports.get(LoadTestConfig.VIRTUAL));
+            comparison.print(System.out);
+            comparison.write(config.outputDirectory().resolve("comparison.json"));
+        }
+    }
+
+    // One full run against fresh containers, so the second mode does not start on the first one's data
+    private static Report run(LoadTestConfig config, HttpClient client, String threads) throws Exception {
+        var output = config.threadModes().size() > 1 ? config.outputDirectory().resolve(threads) : config.outputDirectory();
+        var services = new ArrayList<ServiceProcess>();
+        try (var infrastructure = new Infrastructure();
+             var stripe = new StripeStub(config.stubLatency(), config.stubJitter(), config.stubErrorRate())) {
+            System.out.println("Starting Postgres, Kafka and Redis containers...");
+            infrastructure.start();
+            stripe.start();
+
+            var ports = new LinkedHashMap<String, Integer>();
+            for (var service : List.of(LoadTestConfig.LEDGER, LoadTestConfig.GATEWAY, LoadTestConfig.SCHEDULING, LoadTestConfig.PAYMENT)) {
+                ports.put(service, ServiceProcess.freePort());
+            }
+            var baseUrls = new HashMap<String, String>();
+            ports.forEach((service, port) -> baseUrls.put(service, "http://localhost:" + port));
+
+            for (var entry : ports.entrySet()) {
+                var service = entry.getKey();
+                var environment = new HashMap<String, String>();
+                environment.put("SPRING_PROFILES_ACTIVE", "prod");
+                environment.put("DB_HOST", infrastructure.postgresHost());
+                environment.put("DB_PORT", String.valueOf(infrastructure.postgresPort()));
+                environment.put("SPRING_DATASOURCE_URL", "jdbc:postgresql://" + infrastructure.postgresHost() + ":"
+                    + infrastructure.postgresPort() + "/" + DATABASES.get(service));
+                environment.put("KAFKA_BOOTSTRAP_SERVERS", infrastructure.kafkaBootstrapServers());
+                environment.put("REDIS_HOST", infrastructure.redisHost());
+                environment.put("REDIS_PORT", String.valueOf(infrastructure.redisPort()));
+                environment.put("SPRING_DATA_REDIS_HOST", infrastructure.redisHost());
+                environment.put("SPRING_DATA_REDIS_PORT", String.valueOf(infrastructure.redisPort()));
+                environment.put("SERVICES_LEDGER_URL", baseUrls.get(LoadTestConfig.LEDGER));
+                environment.put("SERVICES_PARTNER_GATEWAY_URL", baseUrls.get(LoadTestConfig.GATEWAY));
+                environment.put("STRIPE_BASE_URL", stripe.baseUrl());
+                environment.put("VIRTUAL_THREADS_ENABLED", String.valueOf(LoadTestConfig.VIRTUAL.equals(threads)));
+                environment.put("LEDGER_ARCHIVE_DIR", output.resolve("ledger-archive").toAbsolutePath().toString());
+                environment.put("LEDGER_STATEMENTS_DIR", output.resolve("statements").toAbsolutePath().toString());
+
+                System.out.println("Starting " + service + " on port " + entry.getValue() + " with " + threads + " threads");
+                services.add(ServiceProcess.start(service, config.jars().get(service), entry.getValue(), environment,
+                    output.resolve("logs"), List.of("-Xmx1g")));
+            }
+            for (var service : services) {
+                service.awaitHealthy(client, Duration.ofMinutes(3));
+            }
+
+            System.out.println("Driving traffic for " + config.duration());
+            var driver = new TrafficDriver(config, client, baseUrls);
+            try (var sampler = new PoolSampler(client, services)) {
+                sampler.start();
+                driver.run();
+
+                var report = new Report(threads, config.duration(), driver.stats(), sampler.stats(), stripe);
+                report.print(System.out);
+                report.write(output.resolve("report.json"));
+                return report;
+            }
+        } finally {
+            for (var service : services) {
+                service.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.rentflow.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+// All settings come from -Dloadtest.* system properties
+record LoadTestConfig(
+    Duration duration,
+    int tenants,
+    double scheduleRate,
+    double paymentRate,
+    double readRate,
+    int burstSize,
+    Duration burstInterval,
+    Duration retryInterval,
+    Duration stubLatency,
+    Duration stubJitter,
+    double stubErrorRate,
+    String threads,
+    Map<String, Path> jars,
+    Path outputDirectory
+) {
+
+    static final String PAYMENT = "payment-service";
+    static final String SCHEDULING = "scheduling-service";
+    static final String LEDGER = "ledger-service";
+    static final String GATEWAY = "partner-gateway";
+
+    // Thread modes the services can run in; "compare" runs both against fresh infrastructure
+    static final String PLATFORM = "platform";
+    static final String VIRTUAL = "virtual";
+    static final String COMPARE = "compare";
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+            Duration.parse(property("duration", "PT2M")),
+            Integer.parseInt(property("tenants", "1000")),
+            Double.parseDouble(property("rate.schedules", "20")),
+            Double.parseDouble(property("rate.payments", "50")),
+            Double.parseDouble(property("rate.reads", "100")),
+            Integer.parseInt(property("burst.size", "500")),
+            Duration.parse(property("burst.interval", "PT30S")),
+            Duration.parse(property("retry.interval", "PT10S")),
+            Duration.ofMillis(Long.parseLong(property("stub.latency-ms", "150"))),
+            Duration.ofMillis(Long.parseLong(property("stub.jitter-ms", "50"))),
+            Double.parseDouble(property("stub.error-rate", "0.02")),
+            property("threads", PLATFORM),
+            Map.of(
+                PAYMENT, jar(PAYMENT),
+                SCHEDULING, jar(SCHEDULING),
+                LEDGER, jar(LEDGER),
+                GATEWAY, jar(GATEWAY)
+            ),
+            Path.of(property("output", "build/load-test"))
+        );
+    }
+
+    List<String> threadModes() {
+        return switch (threads) {
+            case PLATFORM, VIRTUAL -> List.of(threads);
+            case COMPARE -> List.of(PLATFORM, VIRTUAL);
+            default -> throw new IllegalArgumentException("loadtest.threads must be platform, virtual or compare");
+        };
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+
+    private static Path jar(String service) {
+        var value = System.getProperty("loadtest.jar." + service);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing -Dloadtest.jar." + service);
+        }
+        return Path.of(value);
+    }
+}
@@ -0,0 +1,47 @@
+package com.rentflow.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Latency is recorded from the intended start time, so queueing behind a slow system is not hidden
+class OperationStats {
+
+    private final String service;
+    private final String operation;
+    private final Recorder recorder = new Recorder(TimeUnit.MINUTES.toMicros(5), 3);
+    private final Histogram total = new Histogram(TimeUnit.MINUTES.toMicros(5), 3);
+    private final AtomicLong errors = new AtomicLong();
+
+    OperationStats(String service, String operation) {
+        this.service = service;
+        this.operation = operation;
+    }
+
+    String service() {
+        return service;
+    }
+
+    String operation() {
+        return operation;
+    }
+
+    void record(long intendedStartNanos, boolean success) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStartNanos);
+        recorder.recordValue(Math.min(micros, total.getHighestTrackableValue()));
+        if (!success) {
+            errors.incrementAndGet();
+        }
+    }
+
+    long errors() {
+        return errors.get();
+    }
+
+    synchronized Histogram snapshot() {
+        total.add(recorder.getIntervalHistogram());
+        return total.copy();
+    }
+}
@@ -0,0 +1,107 @@
+package com.rentflow.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Samples the Hikari gauges exported on each service's Prometheus endpoint, plus the JVM thread count and the
+// virtual-thread pinning count that tell the two thread modes apart
+class PoolSampler implements AutoCloseable {
+
+    private final HttpClient client;
+    private final List<ServiceProcess> services;
+    private final Map<String, PoolStats> stats = new LinkedHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    PoolSampler(HttpClient client, List<ServiceProcess> services) {
+        this.client = client;
+        this.services = services;
+        services.forEach(service -> stats.put(service.name(), new PoolStats()));
+    }
+
+    void start() {
+        scheduler.scheduleAtFixedRate(this::sample, 0, 1, TimeUnit.SECONDS);
+    }
+
+    Map<String, PoolStats> stats() {
+        return stats;
+    }
+
+    private void sample() {
+        for (var service : services) {
+            try {
+                var request = HttpRequest.newBuilder(URI.create(service.baseUrl() + "/actuator/prometheus")).GET().build();
+                var body = client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+                stats.get(service.name()).sample(
+                    gauge(body, "hikaricp_connections_active"),
+                    gauge(body, "hikaricp_connections_max"),
+                    gauge(body, "hikaricp_connections_pending"),
+                    gauge(body, "jvm_threads_live_threads"),
+                    gauge(body, "rentflow_virtual_pinned_seconds_count")
+                );
+            } catch (Exception e) {
+                // A missed sample is not worth failing the run for
+            }
+        }
+    }
+
+    // Sums the metric across pools; there is a single pool per service
+    private static double gauge(String body, String metric) {
+        double value = 0;
+        for (var line : body.split("\n")) {
+            if (line.startsWith(metric + "{") || line.startsWith(metric + " ")) {
+                value += Double.parseDouble(line.substring(line.lastIndexOf(' ') + 1));
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    static class PoolStats {
+        private long samples;
+        private double activeSum;
+        private double maxActive;
+        private double maxPending;
+        private double poolSize;
+        private long saturatedSamples;
+        private double maxJvmThreads;
+        private double pinnedEvents;
+
+        synchronized void sample(double active, double max, double pending, double jvmThreads, double pinned) {
+            samples++;
+            activeSum += active;
+            maxActive = Math.max(maxActive, active);
+            maxPending = Math.max(maxPending, pending);
+            poolSize = max;
+            maxJvmThreads = Math.max(maxJvmThreads, jvmThreads);
+            // A counter, so the last sample is the total for the run
+            pinnedEvents = pinned;
+            if (pending > 0 || (max > 0 && active >= max)) {
+                saturatedSamples++;
+            }
+        }
+
+        synchronized Map<String, Object> toMap() {
+            var map = new LinkedHashMap<String, Object>();
+            map.put("poolSize", poolSize);
+            map.put("avgActive", samples == 0 ? 0 : activeSum / samples);
+            map.put("maxActive", maxActive);
+            map.put("maxPending", maxPending);
+            map.put("saturatedPercent", samples == 0 ? 0 : 100.0 * saturatedSamples / samples);
+            map.put("maxJvmThreads", maxJvmThreads);
+            map.put("pinnedEvents", pinnedEvents);
+            return map;
+        }
+    }
+}
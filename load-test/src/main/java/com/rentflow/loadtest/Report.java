@@ -0,0 +1,94 @@
+package com.rentflow.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+class Report {
+
+    private final String threads;
+    private final Duration duration;
+    private final List<Map<String, Object>> operations = new ArrayList<>();
+    private final Map<String, Object> pools = new LinkedHashMap<>();
+    private final Map<String, Object> stripe = new LinkedHashMap<>();
+
+    Report(String threads, Duration duration, Map<String, OperationStats> stats,
+           Map<String, PoolSampler.PoolStats> poolStats, StripeStub stripeStub) {
+        this.threads = threads;
+        this.duration = duration;
+        stats.values().stream()
+            .sorted(Comparator.comparing(OperationStats::service).thenComparing(OperationStats::operation))
+            .forEach(operation -> {
+                var histogram = operation.snapshot();
+                var row = new LinkedHashMap<String, Object>();
+                row.put("service", operation.service());
+                row.put("operation", operation.operation());
+                row.put("requests", histogram.getTotalCount());
+                row.put("errors", operation.errors());
+                row.put("throughputPerSecond", histogram.getTotalCount() / (double) duration.toSeconds());
+                row.put("p50Ms", histogram.getValueAtPercentile(50) / 1000.0);
+                row.put("p99Ms", histogram.getValueAtPercentile(99) / 1000.0);
+                row.put("p999Ms", histogram.getValueAtPercentile(99.9) / 1000.0);
+                row.put("maxMs", histogram.getMaxValue() / 1000.0);
+                operations.add(row);
+            });
+        poolStats.forEach((service, pool) -> pools.put(service, pool.toMap()));
+        stripe.put("requests", stripeStub.requests());
+        stripe.put("injectedErrors", stripeStub.errors());
+    }
+
+    String threads() {
+        return threads;
+    }
+
+    List<Map<String, Object>> operations() {
+        return operations;
+    }
+
+    Map<String, Object> pools() {
+        return pools;
+    }
+
+    void print(PrintStream out) {
+        out.printf("%nLoad test results over %ds on %s threads%n%n", duration.toSeconds(), threads);
+        out.printf("%-20s %-26s %9s %8s %9s %9s %9s %9s%n",
+            "service", "operation", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p99.9 ms");
+        for (var row : operations) {
+            out.printf("%-20s %-26s %9d %8d %9.1f %9.1f %9.1f %9.1f%n",
+                row.get("service"), row.get("operation"), row.get("requests"), row.get("errors"),
+                row.get("throughputPerSecond"), row.get("p50Ms"), row.get("p99Ms"), row.get("p999Ms"));
+        }
+
+        out.printf("%n%-20s %6s %10s %10s %11s %12s %12s %10s%n",
+            "connection pool", "size", "avg active", "max active", "max pending", "saturated %", "jvm threads", "pinned");
+        pools.forEach((service, value) -> {
+            @SuppressWarnings("unchecked")
+            var pool = (Map<String, Object>) value;
+            out.printf("%-20s %6.0f %10.1f %10.0f %11.0f %12.1f %12.0f %10.0f%n", service,
+                pool.get("poolSize"), pool.get("avgActive"), pool.get("maxActive"),
+                pool.get("maxPending"), pool.get("saturatedPercent"), pool.get("maxJvmThreads"), pool.get("pinnedEvents"));
+        });
+        out.printf("%nStripe stub: %d requests, %d injected errors%n", stripe.get("requests"), stripe.get("injectedErrors"));
+    }
+
+    void write(Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        var report = new LinkedHashMap<String, Object>();
+        report.put("threads", threads);
+        report.put("durationSeconds", duration.toSeconds());
+        report.put("operations", operations);
+        report.put("connectionPools", pools);
+        report.put("stripeStub", stripe);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+    }
+}
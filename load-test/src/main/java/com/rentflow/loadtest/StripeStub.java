@@ -0,0 +1,153 @@
+package com.rentflow.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Minimal stand-in for the Stripe PaymentIntent API used by partner-gateway's StripeClient
+class StripeStub implements AutoCloseable {
+
+    private final HttpServer server;
+    private final Duration latency;
+    private final Duration jitter;
+    private final double errorRate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, Map<String, Object>> intents = new ConcurrentHashMap<>();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+
+    StripeStub(Duration latency, Duration jitter, double errorRate) throws IOException {
+        this.latency = latency;
+        this.jitter = jitter;
+        this.errorRate = errorRate;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        this.server.createContext("/v1/payment_intents", this::handle);
+    }
+
+    void start() {
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    long requests() {
+        return requests.get();
+    }
+
+    long errors() {
+        return errors.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try (exchange) {
+            simulateLatency();
+            if (ThreadLocalRandom.current().nextDouble() < errorRate) {
+                errors.incrementAndGet();
+                respond(exchange, 402, Map.of("error", Map.of(
+                    "type", "card_error",
+                    "code", "card_declined",
+                    "message", "Your card was declined."
+                )));
+                return;
+            }
+
+            var path = exchange.getRequestURI().getPath();
+            var segments = path.substring("/v1/payment_intents".length()).split("/");
+            if (segments.length <= 1 && "POST".equals(exchange.getRequestMethod())) {
+                respond(exchange, 200, create(form(exchange)));
+            } else if (segments.length == 2) {
+                var intent = intents.get(segments[1]);
+                respond(exchange, intent != null ? 200 : 404, intent != null ? intent : notFound(segments[1]));
+            } else if (segments.length == 3 && "confirm".equals(segments[2])) {
+                var intent = intents.computeIfPresent(segments[1], (id, existing) -> {
+                    var confirmed = new HashMap<>(existing);
+                    confirmed.put("status", "succeeded");
+                    return confirmed;
+                });
+                respond(exchange, intent != null ? 200 : 404, intent != null ? intent : notFound(segments[1]));
+            } else {
+                respond(exchange, 404, notFound(path));
+            }
+        }
+    }
+
+    private Map<String, Object> create(Map<String, String> form) {
+        var id = "pi_" + UUID.randomUUID().toString().replace("-", "");
+        var intent = new HashMap<String, Object>();
+        intent.put("id", id);
+        intent.put("object", "payment_intent");
+        intent.put("amount", Long.parseLong(form.getOrDefault("amount", "0")));
+        intent.put("currency", form.getOrDefault("currency", "usd"));
+        intent.put("status", "succeeded");
+        intent.put("created", Instant.now().getEpochSecond());
+        intent.put("livemode", false);
+        intents.put(id, intent);
+        return intent;
+    }
+
+    private void simulateLatency() {
+        long base = latency.toMillis();
+        long spread = jitter.toMillis();
+        long delay = spread > 0 ? base + ThreadLocalRandom.current().nextLong(-spread, spread + 1) : base;
+        if (delay > 0) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static Map<String, Object> notFound(String id) {
+        return Map.of("error", Map.of(
+            "type", "invalid_request_error",
+            "code", "resource_missing",
+            "message", "No such payment_intent: " + id
+        ));
+    }
+
+    private static Map<String, String> form(HttpExchange exchange) throws IOException {
+        var body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        var form = new HashMap<String, String>();
+        for (var pair : body.split("&")) {
+            var separator = pair.indexOf('=');
+            if (separator > 0) {
+                form.put(
+                    URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                    URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8)
+                );
+            }
+        }
+        return form;
+    }
+
+    private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        var bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
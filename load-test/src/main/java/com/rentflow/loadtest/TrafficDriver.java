@@ -0,0 +1,250 @@
+package com.rentflow.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongConsumer;
+
+// Open-model traffic: requests are issued on a fixed schedule regardless of how fast earlier ones complete
+class TrafficDriver {
+
+    private static final int RECENT_PAYMENTS = 10_000;
+
+    private final LoadTestConfig config;
+    private final HttpClient client;
+    private final Map<String, String> baseUrls;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final Map<String, OperationStats> stats = new LinkedHashMap<>();
+    private final List<Tenant> tenants = new ArrayList<>();
+    private final ConcurrentLinkedQueue<String> unprocessedPayments = new ConcurrentLinkedQueue<>();
+    private final AtomicReferenceArray<String> recentPayments = new AtomicReferenceArray<>(RECENT_PAYMENTS);
+    private final AtomicInteger recentIndex = new AtomicInteger();
+    private final ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor();
+
+    TrafficDriver(LoadTestConfig config, HttpClient client, Map<String, String> baseUrls) {
+        this.config = config;
+        this.client = client;
+        this.baseUrls = baseUrls;
+        for (int i = 0; i < config.tenants(); i++) {
+            tenants.add(new Tenant(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID()));
+        }
+    }
+
+    Map<String, OperationStats> stats() {
+        return stats;
+    }
+
+    void run() throws InterruptedException {
+        var end = System.nanoTime() + config.duration().toNanos();
+        var drivers = List.of(
+            Thread.ofPlatform().name("schedules").start(() -> paced(config.scheduleRate(), end, this::createSchedule)),
+            Thread.ofPlatform().name("payments").start(() -> paced(config.paymentRate(), end, this::createAndProcessPayment)),
+            Thread.ofPlatform().name("reads").start(() -> paced(config.readRate(), end, this::read)),
+            Thread.ofPlatform().name("bursts").start(() -> every(config.burstInterval(), end, this::scheduledBurst)),
+            Thread.ofPlatform().name("retries").start(() -> every(config.retryInterval(), end, this::retryFailed))
+        );
+        for (var driver : drivers) {
+            driver.join();
+        }
+        requests.shutdown();
+        requests.awaitTermination(2, java.util.concurrent.TimeUnit.MINUTES);
+    }
+
+    private void createSchedule(long intendedStart) {
+        var tenant = randomTenant();
+        var body = new LinkedHashMap<String, Object>();
+        body.put("tenantId", tenant.tenantId());
+        body.put("propertyId", tenant.propertyId());
+        body.put("leaseId", tenant.leaseId());
+        body.put("name", "Monthly rent");
+        body.put("amount", rent());
+        body.put("currency", "USD");
+        body.put("paymentMethod", "CARD");
+        body.put("recurrencePattern", "MONTHLY");
+        body.put("dayOfMonth", 1);
+        body.put("startDate", LocalDate.now().plusDays(1));
+        body.put("autoRetry", true);
+        body.put("maxRetries", 3);
+        post(LoadTestConfig.SCHEDULING, "schedule.create", "/api/v1/schedules", body, intendedStart);
+    }
+
+    private void createAndProcessPayment(long intendedStart) {
+        var created = post(LoadTestConfig.PAYMENT, "payment.create", "/api/v1/payments", payment(null), intendedStart);
+        if (created != null) {
+            var id = created.path("id").asText();
+            remember(id);
+            unprocessedPayments.add(id);
+        }
+        var next = unprocessedPayments.poll();
+        if (next != null) {
+            post(LoadTestConfig.PAYMENT, "payment.process", "/api/v1/payments/" + next + "/process", null, System.nanoTime());
+        }
+    }
+
+    private void read(long intendedStart) {
+        var tenant = randomTenant();
+        switch (ThreadLocalRandom.current().nextInt(4)) {
+            case 0 -> get(LoadTestConfig.LEDGER, "ledger.tenant-entries", "/api/v1/entries/tenant/" + tenant.tenantId(), intendedStart);
+            case 1 -> get(LoadTestConfig.LEDGER, "ledger.lease-total", "/api/v1/entries/lease/" + tenant.leaseId() + "/total", intendedStart);
+            case 2 -> get(LoadTestConfig.PAYMENT, "payment.tenant-list", "/api/v1/payments/tenant/" + tenant.tenantId(), intendedStart);
+            default -> {
+                var id = recentPayments.get(ThreadLocalRandom.current().nextInt(RECENT_PAYMENTS));
+                if (id != null) {
+                    get(LoadTestConfig.PAYMENT, "payment.get", "/api/v1/payments/" + id, intendedStart);
+                }
+            }
+        }
+    }
+
+    // Month-start shape: many payments come due at once, then the scheduled processor drains them
+    private void scheduledBurst(long intendedStart) {
+        var dueAt = Instant.now().plusSeconds(5);
+        var pending = new ArrayList<java.util.concurrent.Future<?>>();
+        for (int i = 0; i < config.burstSize(); i++) {
+            pending.add(requests.submit(() ->
+                post(LoadTestConfig.PAYMENT, "payment.scheduled-create", "/api/v1/payments", payment(dueAt), intendedStart)
+            ));
+        }
+        for (var future : pending) {
+            try {
+                future.get();
+            } catch (Exception e) {
+                // Failures are already counted per request
+            }
+        }
+        sleepUntil(dueAt.plusSeconds(1));
+        post(LoadTestConfig.PAYMENT, "payment.scheduled-process", "/api/v1/payments/scheduled/process", null, System.nanoTime());
+    }
+
+    private void retryFailed(long intendedStart) {
+        post(LoadTestConfig.PAYMENT, "payment.retry", "/api/v1/payments/failed/retry", null, intendedStart);
+    }
+
+    private Map<String, Object> payment(Instant scheduledFor) {
+        var tenant = randomTenant();
+        var body = new LinkedHashMap<String, Object>();
+        body.put("tenantId", tenant.tenantId());
+        body.put("propertyId", tenant.propertyId());
+        body.put("leaseId", tenant.leaseId());
+        body.put("amount", rent());
+        body.put("currency", "USD");
+        body.put("paymentType", "FULL");
+        body.put("paymentMethod", "CARD");
+        body.put("stripePaymentMethodId", "pm_card_visa");
+        body.put("scheduledFor", scheduledFor);
+        body.put("idempotencyKey", UUID.randomUUID());
+        return body;
+    }
+
+    private JsonNode post(String service, String operation, String path, Object body, long intendedStart) {
+        try {
+            var request = HttpRequest.newBuilder(URI.create(baseUrls.get(service) + path))
+                .header("Content-Type", "application/json")
+                .POST(body == null
+                    ? HttpRequest.BodyPublishers.noBody()
+                    : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+            return send(service, operation, request, intendedStart);
+        } catch (Exception e) {
+            stats(service, operation).record(intendedStart, false);
+            return null;
+        }
+    }
+
+    private void get(String service, String operation, String path, long intendedStart) {
+        var request = HttpRequest.newBuilder(URI.create(baseUrls.get(service) + path)).GET().build();
+        send(service, operation, request, intendedStart);
+    }
+
+    private JsonNode send(String service, String operation, HttpRequest request, long intendedStart) {
+        var stats = stats(service, operation);
+        try {
+            var response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            boolean success = response.statusCode() / 100 == 2;
+            stats.record(intendedStart, success);
+            return success && response.body().length > 0 ? objectMapper.readTree(response.body()) : null;
+        } catch (Exception e) {
+            stats.record(intendedStart, false);
+            return null;
+        }
+    }
+
+    private synchronized OperationStats stats(String service, String operation) {
+        return stats.computeIfAbsent(operation, name -> new OperationStats(service, name));
+    }
+
+    private void paced(double ratePerSecond, long end, LongConsumer task) {
+        if (ratePerSecond <= 0) {
+            return;
+        }
+        long interval = (long) (1_000_000_000L / ratePerSecond);
+        long next = System.nanoTime();
+        while (next < end) {
+            sleepNanos(next - System.nanoTime());
+            long intendedStart = next;
+            requests.submit(() -> task.accept(intendedStart));
+            next += interval;
+        }
+    }
+
+    private void every(Duration period, long end, LongConsumer task) {
+        long next = System.nanoTime() + period.toNanos();
+        while (next < end) {
+            sleepNanos(next - System.nanoTime());
+            task.accept(next);
+            next += period.toNanos();
+        }
+    }
+
+    private void remember(String paymentId) {
+        recentPayments.set(Math.floorMod(recentIndex.getAndIncrement(), RECENT_PAYMENTS), paymentId);
+    }
+
+    private Tenant randomTenant() {
+        return tenants.get(ThreadLocalRandom.current().nextInt(tenants.size()));
+    }
+
+    private static BigDecimal rent() {
+        return BigDecimal.valueOf(ThreadLocalRandom.current().nextLong(80_000, 450_000), 2);
+    }
+
+    private static void sleepUntil(Instant instant) {
+        sleepNanos(Duration.between(Instant.now(), instant).toNanos());
+    }
+
+    private static void sleepNanos(long nanos) {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(Duration.ofNanos(nanos));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Tenant(UUID tenantId, UUID propertyId, UUID leaseId) {}
+}
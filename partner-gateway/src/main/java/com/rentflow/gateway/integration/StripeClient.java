@@ -21,9 +21,14 @@ public class StripeClient {
     @Value("${partners.stripe.api-key}")
     private String apiKey;
 
+    @Value("${partners.stripe.base-url:https://api.stripe.com}")
+    private String baseUrl;
+
     @jakarta.annotation.PostConstruct
     public void init() {
         Stripe.apiKey = apiKey;
+        // Lets load tests point the SDK at a local stub
+        Stripe.overrideApiBase(baseUrl);
     }
 
     public PaymentIntentResult createPaymentIntent(
@@ -33,10 +38,8 @@ public class StripeClient {
         String paymentMethodId
     ) {
         try {
-            long amountInCents = amount.multiply(new BigDecimal("100")).longValue();
-
             PaymentIntentCreateParams params = PaymentIntentCreateParams.builder()
-                .setAmount(amountInCents)
+                .setAmount(toMinorUnits(amount))
                 .setCurrency(currency.toLowerCase())
                 .setPaymentMethod(paymentMethodId)
                 .setConfirm(true)
@@ -52,7 +55,7 @@ public class StripeClient {
             return new PaymentIntentResult(
                 paymentIntent.getId(),
                 paymentIntent.getStatus(),
-                paymentIntent.getAmount().longValue() / 100.0,
+                fromMinorUnits(paymentIntent.getAmount()).doubleValue(),
                 null
             );
         } catch (Exception e) {
@@ -69,7 +72,7 @@ public class StripeClient {
             return new PaymentIntentResult(
                 paymentIntent.getId(),
                 paymentIntent.getStatus(),
-                paymentIntent.getAmount().longValue() / 100.0,
+                fromMinorUnits(paymentIntent.getAmount()).doubleValue(),
                 null
             );
         } catch (Exception e) {
@@ -84,14 +87,13 @@ public class StripeClient {
 
             BigDecimal feeAmount = null;
             if (paymentIntent.getApplicationFeeAmount() != null) {
-                feeAmount = BigDecimal.valueOf(paymentIntent.getApplicationFeeAmount())
-                    .divide(new BigDecimal("100"));
+                feeAmount = fromMinorUnits(paymentIntent.getApplicationFeeAmount());
             }
 
             return new PaymentIntentResult(
                 paymentIntent.getId(),
                 paymentIntent.getStatus(),
-                paymentIntent.getAmount().longValue() / 100.0,
+                fromMinorUnits(paymentIntent.getAmount()).doubleValue(),
                 feeAmount
             );
         } catch (Exception e) {
@@ -100,6 +102,15 @@ public class StripeClient {
         }
     }
 
+    // Stripe amounts are integers in the currency's minor unit; shifting the scale avoids a BigDecimal multiply
+    public static long toMinorUnits(BigDecimal amount) {
+        return amount.movePointRight(2).longValue();
+    }
+
+    public static BigDecimal fromMinorUnits(long amount) {
+        return BigDecimal.valueOf(amount, 2);
+    }
+
     public record PaymentIntentResult(
         String paymentIntentId,
         String status,
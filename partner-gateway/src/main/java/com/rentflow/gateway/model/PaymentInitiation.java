@@ -1,5 +1,7 @@
 package com.rentflow.gateway.model;
 
+import com.rentflow.persistence.GeneratedUuidV7;
+import com.rentflow.persistence.PersistableEntity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
@@ -18,10 +20,10 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class PaymentInitiation {
+public class PaymentInitiation extends PersistableEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     private UUID id;
 
     @Column(nullable = false)
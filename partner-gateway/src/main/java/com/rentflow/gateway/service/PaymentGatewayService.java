@@ -2,10 +2,14 @@ package com.rentflow.gateway.service;
 
 import com.rentflow.gateway.integration.StripeClient;
 import com.rentflow.gateway.model.PaymentInitiation;
+import com.rentflow.gateway.model.PaymentProvider;
 import com.rentflow.gateway.model.PaymentStatus;
 import com.rentflow.gateway.repository.PaymentInitiationRepository;
+import com.rentflow.persistence.UuidV7;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -20,8 +24,12 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class PaymentGatewayService {
 
+    // One timer per provider, operation and outcome; every retry attempt is a separate call
+    static final String PARTNER_CALL = "rentflow.partner.call";
+
     private final PaymentInitiationRepository initiationRepository;
     private final StripeClient stripeClient;
+    private final MeterRegistry meterRegistry;
     // private final PlaidClient plaidClient; // Uncomment when Plaid client is ready
 
     @Transactional
@@ -36,17 +44,18 @@ public class PaymentGatewayService {
         String paymentMethodId
     ) {
         var initiation = PaymentInitiation.builder()
-            .id(UUID.randomUUID())
+            .id(UuidV7.next())
             .paymentId(paymentId)
             .tenantId(tenantId)
             .leaseId(leaseId)
             .amount(amount)
             .currency(currency)
-            .provider(com.rentflow.gateway.model.PaymentProvider.STRIPE)
+            .provider(PaymentProvider.STRIPE)
             .paymentMethodId(paymentMethodId)
             .status(PaymentStatus.PROCESSING)
             .build();
 
+        var sample = Timer.start(meterRegistry);
         try {
             var result = stripeClient.createPaymentIntent(
                 paymentId,
@@ -67,8 +76,10 @@ public class PaymentGatewayService {
             } else if ("requires_confirmation".equals(result.status())) {
                 initiation.setStatus(PaymentStatus.REQUIRES_CONFIRMATION);
             }
+            sample.stop(partnerCallTimer(initiation.getProvider(), "create_payment_intent", initiation.getStatus().name()));
 
         } catch (Exception e) {
+            sample.stop(partnerCallTimer(initiation.getProvider(), "create_payment_intent", "ERROR"));
             initiation.setStatus(PaymentStatus.FAILED);
             initiation.setFailureReason(e.getMessage());
             log.error("Failed to initiate Stripe payment for payment: {}", paymentId, e);
@@ -96,6 +107,15 @@ public class PaymentGatewayService {
         return initiationRepository.save(initiation);
     }
 
+    private Timer partnerCallTimer(PaymentProvider provider, String operation, String outcome) {
+        return Timer.builder(PARTNER_CALL)
+            .description("Latency of calls to payment partners")
+            .tag("provider", provider.name())
+            .tag("operation", operation)
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
     public static class PaymentInitiationNotFoundException extends RuntimeException {
         public PaymentInitiationNotFoundException(UUID id) {
             super("Payment initiation not found: " + id);
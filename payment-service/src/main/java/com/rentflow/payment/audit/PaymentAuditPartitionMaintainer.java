@@ -0,0 +1,48 @@
+package com.rentflow.payment.audit;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentAuditPartitionMaintainer {
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${audit.partitions.months-ahead:3}")
+    private int monthsAhead;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${audit.partitions.cron:0 0 2 * * *}")
+    public void ensurePartitions() {
+        var month = LocalDate.now(ZoneOffset.UTC).withDayOfMonth(1);
+        for (int i = 0; i <= monthsAhead; i++) {
+            createPartition(month.plusMonths(i));
+        }
+    }
+
+    private void createPartition(LocalDate month) {
+        var name = "payment_audit_log_" + month.format(SUFFIX);
+        try {
+            jdbcTemplate.execute(
+                "CREATE TABLE IF NOT EXISTS " + name + " PARTITION OF payment_audit_log " +
+                "FOR VALUES FROM ('" + month + "') TO ('" + month.plusMonths(1) + "')"
+            );
+        } catch (Exception e) {
+            log.error("Failed to create audit partition {}", name, e);
+        }
+    }
+}
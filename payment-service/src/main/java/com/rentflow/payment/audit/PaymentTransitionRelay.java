@@ -0,0 +1,145 @@
+package com.rentflow.payment.audit;
+
+import com.rentflow.events.PartitionKey;
+import com.rentflow.events.PaymentTransitioned;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// Relays payment_audit_log to payment-transitioned. Audit rows are written by the transition's own statement, so
+// every committed transition is published, whichever code path made it. Delivery is at least once: a row is marked
+// published only after Kafka acknowledges it, so a failed send, or a crash before the mark, sends it again
+@Slf4j
+@Component
+public class PaymentTransitionRelay {
+
+    // One relay at a time across instances, so a payment's transitions go out in the order they were made
+    private static final String LOCK_SQL = "SELECT pg_try_advisory_xact_lock(hashtext('payment-transition-relay'))";
+
+    private static final String PENDING_SQL = """
+        SELECT a.id, a.created_at, a.payment_id, p.tenant_id, p.lease_id, a.old_status, a.new_status, a.change_reason
+        FROM payment_audit_log a
+        JOIN payments p ON p.id = a.payment_id
+        WHERE a.published_at IS NULL
+        ORDER BY a.created_at, a.id
+        LIMIT ?
+        """;
+
+    private static final String MARK_SQL = "UPDATE payment_audit_log SET published_at = ? WHERE id = ? AND created_at = ?";
+
+    // createdAt is kept as stored, so the mark finds the row in its partition
+    private record Pending(UUID id, LocalDateTime createdAt, UUID key, PaymentTransitioned event) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final KafkaTemplate<UUID, Object> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PartitionKey partitionKey;
+    private final String topic;
+    private final int batchSize;
+    private final long sendTimeoutMs;
+
+    public PaymentTransitionRelay(
+        JdbcTemplate jdbcTemplate,
+        KafkaTemplate<UUID, Object> kafkaTemplate,
+        PlatformTransactionManager transactionManager,
+        @Value("${kafka.partition-key:LEASE}") PartitionKey partitionKey,
+        @Value("${kafka.topics.payment-transitioned:payment-transitioned}") String topic,
+        @Value("${audit.relay.batch-size:500}") int batchSize,
+        @Value("${audit.relay.send-timeout-ms:10000}") long sendTimeoutMs
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.partitionKey = partitionKey;
+        this.topic = topic;
+        this.batchSize = batchSize;
+        this.sendTimeoutMs = sendTimeoutMs;
+    }
+
+    // Drains the backlog a batch at a time; a batch that was not fully sent waits for the next run
+    @Scheduled(fixedDelayString = "${audit.relay.interval-ms:500}")
+    public void relay() {
+        while (Boolean.TRUE.equals(transactionTemplate.execute(status -> relayBatch()))) {
+            // next batch
+        }
+    }
+
+    // True when a full batch went out, so there may be more behind it
+    private boolean relayBatch() {
+        if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(LOCK_SQL, Boolean.class))) {
+            return false;
+        }
+        var pending = jdbcTemplate.query(PENDING_SQL, (rs, rowNum) -> pending(rs), batchSize);
+        if (pending.isEmpty()) {
+            return false;
+        }
+        var sends = pending.stream().map(row -> kafkaTemplate.send(topic, row.key(), row.event())).toList();
+
+        // Only the rows up to the first failure are marked, so a payment's later transitions are sent again
+        // after the one that failed rather than before it
+        var published = new ArrayList<Pending>(pending.size());
+        for (int i = 0; i < pending.size(); i++) {
+            try {
+                sends.get(i).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (ExecutionException | TimeoutException e) {
+                log.warn("Failed to relay transition {} of payment {}; {} rows left for the next run",
+                    pending.get(i).id(), pending.get(i).event().paymentId(), pending.size() - i, e);
+                break;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            published.add(pending.get(i));
+        }
+        mark(published);
+        log.debug("Relayed {} payment transitions", published.size());
+        return published.size() == batchSize;
+    }
+
+    private void mark(List<Pending> published) {
+        if (published.isEmpty()) {
+            return;
+        }
+        var now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(MARK_SQL, published, published.size(), (ps, row) -> {
+            ps.setTimestamp(1, now);
+            ps.setObject(2, row.id());
+            ps.setObject(3, row.createdAt());
+        });
+    }
+
+    private Pending pending(ResultSet rs) throws SQLException {
+        var tenantId = rs.getObject("tenant_id", UUID.class);
+        var leaseId = rs.getObject("lease_id", UUID.class);
+        var event = new PaymentTransitioned(
+            rs.getObject("payment_id", UUID.class),
+            tenantId,
+            leaseId,
+            rs.getString("old_status"),
+            rs.getString("new_status"),
+            rs.getString("change_reason"),
+            rs.getObject("created_at", OffsetDateTime.class).toInstant(),
+            PaymentTransitioned.CURRENT_VERSION
+        );
+        return new Pending(rs.getObject("id", UUID.class), rs.getObject("created_at", LocalDateTime.class),
+            partitionKey.select(leaseId, tenantId), event);
+    }
+}
@@ -1,17 +1,30 @@
 package com.rentflow.payment.controller;
 
 import com.rentflow.payment.dto.CreatePaymentRequest;
+import com.rentflow.payment.dto.PaymentLookupRequest;
+import com.rentflow.payment.dto.PaymentLookupResponse;
 import com.rentflow.payment.dto.PaymentResponse;
+import com.rentflow.payment.job.SweepJob;
+import com.rentflow.payment.job.SweepJobService;
+import com.rentflow.payment.job.SweepKind;
+import com.rentflow.payment.service.PaymentBatchService;
 import com.rentflow.payment.service.PaymentService;
+import com.rentflow.payment.stream.PaymentStatusStream;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.net.URI;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -24,6 +37,9 @@ import java.util.UUID;
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final PaymentBatchService paymentBatchService;
+    private final SweepJobService sweepJobService;
+    private final PaymentStatusStream paymentStatusStream;
 
     @PostMapping
     @Operation(summary = "Create a new payment")
@@ -32,12 +48,41 @@ public class PaymentController {
         return ResponseEntity.status(HttpStatus.CREATED).body(payment);
     }
 
+    // The body is read while the results are written, so neither side of a large import is held in memory
+    @PostMapping(
+        value = "/batch",
+        consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE},
+        produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    @Operation(summary = "Create payments from an NDJSON stream or JSON array, streaming one result per row")
+    public ResponseEntity<StreamingResponseBody> createPayments(InputStream body) {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(out -> paymentBatchService.importPayments(body, out));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get payment by ID")
-    public ResponseEntity<PaymentResponse> getPayment(@PathVariable UUID id) {
+    public ResponseEntity<PaymentResponse> getPayment(@PathVariable UUID id, WebRequest request) {
+        // Sets the ETag header, and on a matching If-None-Match the 304, before the payment is loaded
+        if (request.checkNotModified(paymentService.getPaymentTag(id))) {
+            return null;
+        }
         return ResponseEntity.ok(paymentService.getPayment(id));
     }
 
+    @PostMapping("/lookup")
+    @Operation(summary = "Get up to 100 payments by ID, in request order")
+    public ResponseEntity<PaymentLookupResponse> lookupPayments(@Valid @RequestBody PaymentLookupRequest request) {
+        return ResponseEntity.ok(paymentService.lookupPayments(request.ids()));
+    }
+
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream the payment's status: the current one, then each transition until a final status")
+    public SseEmitter streamPaymentStatus(@PathVariable UUID id) {
+        return paymentStatusStream.subscribePayment(id);
+    }
+
     @PostMapping("/{id}/process")
     @Operation(summary = "Process a payment")
     public ResponseEntity<PaymentResponse> processPayment(@PathVariable UUID id) {
@@ -53,10 +98,19 @@ public class PaymentController {
 
     @GetMapping("/tenant/{tenantId}")
     @Operation(summary = "Get payments by tenant")
-    public ResponseEntity<List<PaymentResponse>> getPaymentsByTenant(@PathVariable UUID tenantId) {
+    public ResponseEntity<List<PaymentResponse>> getPaymentsByTenant(@PathVariable UUID tenantId, WebRequest request) {
+        if (request.checkNotModified(paymentService.getTenantPaymentsTag(tenantId))) {
+            return null;
+        }
         return ResponseEntity.ok(paymentService.getPaymentsByTenant(tenantId));
     }
 
+    @GetMapping(value = "/tenant/{tenantId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream status transitions of every payment of a tenant")
+    public SseEmitter streamTenantStatus(@PathVariable UUID tenantId) {
+        return paymentStatusStream.subscribeTenant(tenantId);
+    }
+
     @GetMapping("/lease/{leaseId}/total")
     @Operation(summary = "Get total paid amount for a lease")
     public ResponseEntity<Map<String, Object>> getTotalPaidForLease(@PathVariable UUID leaseId) {
@@ -68,17 +122,27 @@ public class PaymentController {
     }
 
     @PostMapping("/scheduled/process")
-    @Operation(summary = "Process scheduled payments (internal)")
-    public ResponseEntity<Map<String, Object>> processScheduledPayments() {
-        int processed = paymentService.processScheduledPayments();
-        return ResponseEntity.ok(Map.of("processed", processed));
+    @Operation(summary = "Start a sweep of due scheduled payments, or return the one already running (internal)")
+    public ResponseEntity<SweepJob> processScheduledPayments() {
+        return accepted(sweepJobService.submit(SweepKind.SCHEDULED));
     }
 
     @PostMapping("/failed/retry")
-    @Operation(summary = "Retry failed payments (internal)")
-    public ResponseEntity<Map<String, Object>> retryFailedPayments() {
-        int retried = paymentService.retryFailedPayments();
-        return ResponseEntity.ok(Map.of("retried", retried));
+    @Operation(summary = "Start a sweep retrying failed payments, or return the one already running (internal)")
+    public ResponseEntity<SweepJob> retryFailedPayments() {
+        return accepted(sweepJobService.submit(SweepKind.RETRY));
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    @Operation(summary = "Get sweep progress, throughput and failure count")
+    public ResponseEntity<SweepJob> getJob(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(sweepJobService.getJob(jobId));
+    }
+
+    @PostMapping("/jobs/{jobId}/cancel")
+    @Operation(summary = "Cancel a running sweep")
+    public ResponseEntity<SweepJob> cancelJob(@PathVariable UUID jobId) {
+        return accepted(sweepJobService.cancel(jobId));
     }
 
     @GetMapping("/health")
@@ -86,4 +150,10 @@ public class PaymentController {
     public ResponseEntity<Map<String, String>> health() {
         return ResponseEntity.ok(Map.of("status", "UP", "service", "payment-service"));
     }
+
+    private static ResponseEntity<SweepJob> accepted(SweepJob job) {
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/v1/payments/jobs/" + job.id()))
+            .body(job);
+    }
 }
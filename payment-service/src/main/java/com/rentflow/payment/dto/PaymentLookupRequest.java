@@ -0,0 +1,14 @@
+package com.rentflow.payment.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public record PaymentLookupRequest(
+    @NotEmpty(message = "At least one payment ID is required")
+    @Size(max = 100, message = "At most 100 payment IDs per lookup")
+    List<@NotNull UUID> ids
+) {}
@@ -0,0 +1,10 @@
+package com.rentflow.payment.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+// Payments in the order they were requested, each once; ids with no payment are listed in notFound
+public record PaymentLookupResponse(
+    List<PaymentResponse> payments,
+    List<UUID> notFound
+) {}
@@ -0,0 +1,17 @@
+package com.rentflow.payment.dto;
+
+import com.rentflow.payment.model.PaymentStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// One "status" event on the payment status streams. A payment stream opens with the current status, which has no
+// previousStatus
+public record PaymentStatusEvent(
+    UUID paymentId,
+    UUID tenantId,
+    PaymentStatus previousStatus,
+    PaymentStatus status,
+    String reason,
+    Instant occurredAt
+) {}
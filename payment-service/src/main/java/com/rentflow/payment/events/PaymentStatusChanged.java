@@ -0,0 +1,22 @@
+package com.rentflow.payment.events;
+
+import com.rentflow.payment.model.PaymentMethod;
+import com.rentflow.payment.model.PaymentStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// In-process notification of a payment status transition; not published to Kafka, payment-transitioned is
+// relayed from the audit log
+public record PaymentStatusChanged(
+    UUID paymentId,
+    UUID tenantId,
+    UUID leaseId,
+    PaymentMethod paymentMethod,
+    PaymentStatus oldStatus,
+    PaymentStatus newStatus,
+    // When the payment entered oldStatus; null if unknown
+    Instant oldStatusSince,
+    String reason,
+    Instant occurredAt
+) {}
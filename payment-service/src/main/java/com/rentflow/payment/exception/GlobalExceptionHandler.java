@@ -1,6 +1,7 @@
 package com.rentflow.payment.exception;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -14,8 +15,17 @@ import java.util.Map;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    // Explicitly JSON, so a status stream request (Accept: text/event-stream) still gets the 404 body
     @ExceptionHandler(PaymentNotFoundException.class)
     public ResponseEntity<ErrorResponse> handlePaymentNotFound(PaymentNotFoundException e) {
+        return ResponseEntity
+            .status(HttpStatus.NOT_FOUND)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(new ErrorResponse(e.getMessage(), Instant.now()));
+    }
+
+    @ExceptionHandler(SweepJobNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleSweepJobNotFound(SweepJobNotFoundException e) {
         return ResponseEntity
             .status(HttpStatus.NOT_FOUND)
             .body(new ErrorResponse(e.getMessage(), Instant.now()));
@@ -42,6 +52,13 @@ public class GlobalExceptionHandler {
             .body(new ErrorResponse(e.getMessage(), Instant.now()));
     }
 
+    @ExceptionHandler(PaymentTransitionConflictException.class)
+    public ResponseEntity<ErrorResponse> handlePaymentTransitionConflict(PaymentTransitionConflictException e) {
+        return ResponseEntity
+            .status(HttpStatus.CONFLICT)
+            .body(new ErrorResponse(e.getMessage(), Instant.now()));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ValidationErrorResponse> handleValidation(MethodArgumentNotValidException e) {
         var errors = new HashMap<String, String>();
@@ -0,0 +1,11 @@
+package com.rentflow.payment.exception;
+
+import com.rentflow.payment.model.PaymentStatus;
+import com.rentflow.payment.model.PaymentTransition;
+import java.util.UUID;
+
+public class PaymentTransitionConflictException extends RuntimeException {
+    public PaymentTransitionConflictException(UUID id, PaymentTransition transition, PaymentStatus status) {
+        super("Payment " + id + " cannot " + transition + " from status " + status);
+    }
+}
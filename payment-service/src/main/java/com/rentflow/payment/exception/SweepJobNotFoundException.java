@@ -0,0 +1,9 @@
+package com.rentflow.payment.exception;
+
+import java.util.UUID;
+
+public class SweepJobNotFoundException extends RuntimeException {
+    public SweepJobNotFoundException(UUID id) {
+        super("Sweep job not found: " + id);
+    }
+}
@@ -0,0 +1,32 @@
+package com.rentflow.payment.job;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+public record SweepJob(
+    UUID id,
+    SweepKind kind,
+    SweepStatus status,
+    String owner,
+    Integer total,
+    int processed,
+    int succeeded,
+    int failed,
+    boolean cancelRequested,
+    String error,
+    Instant submittedAt,
+    Instant heartbeatAt,
+    Instant finishedAt
+) {
+
+    // Over the sweep so far, or its whole run once finished
+    @JsonProperty
+    public double itemsPerSecond() {
+        var end = finishedAt != null ? finishedAt : heartbeatAt;
+        var millis = Duration.between(submittedAt, end).toMillis();
+        return millis > 0 ? processed * 1000.0 / millis : 0;
+    }
+}
@@ -0,0 +1,117 @@
+package com.rentflow.payment.job;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class SweepJobRepository {
+
+    private static final int ERROR_LENGTH = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Empty when a sweep of this kind is already running somewhere, which the partial unique index decides
+    public Optional<SweepJob> insertRunning(UUID id, SweepKind kind, String owner) {
+        var now = now();
+        return jdbcTemplate.query("""
+            INSERT INTO sweep_jobs (id, kind, status, owner, submitted_at, heartbeat_at)
+            VALUES (?, ?, 'RUNNING', ?, ?, ?)
+            ON CONFLICT (kind) WHERE status = 'RUNNING' DO NOTHING
+            RETURNING *
+            """, SweepJobRepository::job, id, kind.name(), owner, now, now).stream().findFirst();
+    }
+
+    public Optional<SweepJob> findById(UUID id) {
+        return jdbcTemplate.query("SELECT * FROM sweep_jobs WHERE id = ?", SweepJobRepository::job, id)
+            .stream().findFirst();
+    }
+
+    public Optional<SweepJob> findRunning(SweepKind kind) {
+        return jdbcTemplate.query("SELECT * FROM sweep_jobs WHERE kind = ? AND status = 'RUNNING'",
+            SweepJobRepository::job, kind.name()).stream().findFirst();
+    }
+
+    public boolean abandonIfStale(UUID id, Instant heartbeatBefore) {
+        return jdbcTemplate.update("""
+            UPDATE sweep_jobs SET status = 'ABANDONED', finished_at = ?, error = 'No heartbeat from ' || owner
+            WHERE id = ? AND status = 'RUNNING' AND heartbeat_at < ?
+            """, now(), id, heartbeatBefore.atOffset(ZoneOffset.UTC)) == 1;
+    }
+
+    public void start(UUID id, int total) {
+        jdbcTemplate.update("UPDATE sweep_jobs SET total = ?, heartbeat_at = ? WHERE id = ?", total, now(), id);
+    }
+
+    // Doubles as the heartbeat, and returns whether the runner should stop: cancellation was requested, or another
+    // instance took the sweep over after missing heartbeats
+    public boolean progress(UUID id, int processed, int succeeded, int failed) {
+        return jdbcTemplate.query("""
+            UPDATE sweep_jobs SET processed = ?, succeeded = ?, failed = ?, heartbeat_at = ?
+            WHERE id = ?
+            RETURNING cancel_requested OR status <> 'RUNNING' AS stop
+            """, (rs, rowNum) -> rs.getBoolean("stop"), processed, succeeded, failed, now(), id)
+            .stream().findFirst().orElse(false);
+    }
+
+    public void finish(UUID id, SweepStatus status, int processed, int succeeded, int failed, String error) {
+        var now = now();
+        jdbcTemplate.update("""
+            UPDATE sweep_jobs
+            SET status = ?, processed = ?, succeeded = ?, failed = ?, error = ?, heartbeat_at = ?, finished_at = ?
+            WHERE id = ? AND status = 'RUNNING'
+            """, status.name(), processed, succeeded, failed, truncate(error), now, now, id);
+    }
+
+    // Empty when the sweep is unknown; a finished sweep is returned unchanged
+    public Optional<SweepJob> requestCancel(UUID id) {
+        var cancelled = jdbcTemplate.query(
+            "UPDATE sweep_jobs SET cancel_requested = true WHERE id = ? AND status = 'RUNNING' RETURNING *",
+            SweepJobRepository::job, id);
+        return cancelled.isEmpty() ? findById(id) : Optional.of(cancelled.get(0));
+    }
+
+    private static SweepJob job(ResultSet rs, int rowNum) throws SQLException {
+        return new SweepJob(
+            rs.getObject("id", UUID.class),
+            SweepKind.valueOf(rs.getString("kind")),
+            SweepStatus.valueOf(rs.getString("status")),
+            rs.getString("owner"),
+            rs.getObject("total", Integer.class),
+            rs.getInt("processed"),
+            rs.getInt("succeeded"),
+            rs.getInt("failed"),
+            rs.getBoolean("cancel_requested"),
+            rs.getString("error"),
+            instant(rs, "submitted_at"),
+            instant(rs, "heartbeat_at"),
+            instant(rs, "finished_at")
+        );
+    }
+
+    // Bound and read as UTC offsets, like PaymentRepositoryImpl, so both agree with Hibernate on stored values
+    private static OffsetDateTime now() {
+        return OffsetDateTime.now(ZoneOffset.UTC);
+    }
+
+    private static Instant instant(ResultSet rs, String column) throws SQLException {
+        var value = rs.getObject(column, OffsetDateTime.class);
+        return value != null ? value.toInstant() : null;
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() <= ERROR_LENGTH ? error : error.substring(0, ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,144 @@
+package com.rentflow.payment.job;
+
+import com.rentflow.payment.exception.SweepJobNotFoundException;
+import com.rentflow.payment.model.PaymentStatus;
+import com.rentflow.payment.repository.PaymentRepository;
+import com.rentflow.payment.service.PaymentService;
+import com.rentflow.persistence.UuidV7;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// Runs the scheduled-payment and retry sweeps in the background. The sweep_jobs row is the job's state for every
+// instance: its partial unique index allows one running sweep per kind, progress writes double as the heartbeat,
+// and cancellation is a flag the runner reads back with each progress write
+@Slf4j
+@Service
+public class SweepJobService {
+
+    private static final int PROGRESS_EVERY = 100;
+    private static final long PROGRESS_INTERVAL_NANOS = Duration.ofSeconds(1).toNanos();
+
+    private final PaymentService paymentService;
+    private final PaymentRepository paymentRepository;
+    private final SweepJobRepository jobRepository;
+    private final Duration staleAfter;
+    private final ExecutorService executor;
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName();
+    private volatile boolean shuttingDown;
+
+    public SweepJobService(
+        PaymentService paymentService,
+        PaymentRepository paymentRepository,
+        SweepJobRepository jobRepository,
+        @Value("${payments.sweeps.stale-after:5m}") Duration staleAfter,
+        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.paymentService = paymentService;
+        this.paymentRepository = paymentRepository;
+        this.jobRepository = jobRepository;
+        this.staleAfter = staleAfter;
+        // At most one thread per kind: a second submission of the same kind coalesces instead of running
+        this.executor = Executors.newFixedThreadPool(SweepKind.values().length, virtualThreads
+            ? Thread.ofVirtual().name("sweep-", 0).factory()
+            : Thread.ofPlatform().name("sweep-", 0).factory());
+    }
+
+    // Returns the running sweep of this kind if there is one, wherever it runs, instead of starting another
+    public SweepJob submit(SweepKind kind) {
+        while (true) {
+            var inserted = jobRepository.insertRunning(UuidV7.next(), kind, owner);
+            if (inserted.isPresent()) {
+                var job = inserted.get();
+                executor.execute(() -> run(job));
+                log.info("Started {} sweep {}", kind, job.id());
+                return job;
+            }
+            var running = jobRepository.findRunning(kind);
+            if (running.isEmpty()) {
+                // Finished between the insert and the lookup
+                continue;
+            }
+            var job = running.get();
+            if (!jobRepository.abandonIfStale(job.id(), Instant.now().minus(staleAfter))) {
+                log.info("{} sweep already running as {} on {}", kind, job.id(), job.owner());
+                return job;
+            }
+            log.warn("{} sweep {} on {} sent no heartbeat for {}, replacing it", kind, job.id(), job.owner(), staleAfter);
+        }
+    }
+
+    public SweepJob getJob(UUID id) {
+        return jobRepository.findById(id).orElseThrow(() -> new SweepJobNotFoundException(id));
+    }
+
+    // The runner stops before its next payment once it reads the flag, within about a second
+    public SweepJob cancel(UUID id) {
+        return jobRepository.requestCancel(id).orElseThrow(() -> new SweepJobNotFoundException(id));
+    }
+
+    private void run(SweepJob job) {
+        int processed = 0;
+        int succeeded = 0;
+        int failed = 0;
+        try {
+            var now = Instant.now();
+            var ids = switch (job.kind()) {
+                case SCHEDULED -> paymentRepository.findIdsByStatusAndScheduledForBefore(PaymentStatus.PENDING, now);
+                case RETRY -> paymentRepository.findRetryablePaymentIds(PaymentStatus.FAILED, now);
+            };
+            jobRepository.start(job.id(), ids.size());
+            log.info("Found {} payments for {} sweep {}", ids.size(), job.kind(), job.id());
+
+            var cancelled = false;
+            var lastProgress = System.nanoTime();
+            // Each payment is claimed and settled on its own, so one slow partner call does not hold the others' rows
+            for (var id : ids) {
+                if (cancelled || shuttingDown) {
+                    break;
+                }
+                try {
+                    paymentService.processPayment(id);
+                    succeeded++;
+                } catch (Exception e) {
+                    failed++;
+                    log.error("{} sweep {} failed to process payment {}", job.kind(), job.id(), id, e);
+                }
+                processed++;
+                if (processed % PROGRESS_EVERY == 0 || System.nanoTime() - lastProgress > PROGRESS_INTERVAL_NANOS) {
+                    cancelled = jobRepository.progress(job.id(), processed, succeeded, failed);
+                    lastProgress = System.nanoTime();
+                }
+            }
+
+            if (processed < ids.size()) {
+                var reason = shuttingDown ? "Stopped by shutdown of " + owner : "Cancelled by request";
+                jobRepository.finish(job.id(), SweepStatus.CANCELLED, processed, succeeded, failed, reason);
+                log.info("{} sweep {} stopped after {} of {} payments: {}", job.kind(), job.id(), processed, ids.size(), reason);
+            } else {
+                jobRepository.finish(job.id(), SweepStatus.COMPLETED, processed, succeeded, failed, null);
+                log.info("{} sweep {} processed {} payments ({} failed)", job.kind(), job.id(), processed, failed);
+            }
+        } catch (Exception e) {
+            log.error("{} sweep {} failed", job.kind(), job.id(), e);
+            jobRepository.finish(job.id(), SweepStatus.FAILED, processed, succeeded, failed, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        shuttingDown = true;
+        executor.shutdown();
+        // Lets the payment in flight settle so its sweep is recorded as cancelled rather than left to go stale
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+}
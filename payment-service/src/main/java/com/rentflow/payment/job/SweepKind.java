@@ -0,0 +1,6 @@
+package com.rentflow.payment.job;
+
+public enum SweepKind {
+    SCHEDULED,
+    RETRY
+}
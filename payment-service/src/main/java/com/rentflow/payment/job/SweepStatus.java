@@ -0,0 +1,10 @@
+package com.rentflow.payment.job;
+
+public enum SweepStatus {
+    RUNNING,
+    COMPLETED,
+    CANCELLED,
+    FAILED,
+    // The owning instance stopped sending heartbeats, and a later submission replaced the sweep
+    ABANDONED
+}
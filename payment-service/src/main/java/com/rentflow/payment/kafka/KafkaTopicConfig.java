@@ -0,0 +1,38 @@
+package com.rentflow.payment.kafka;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaAdmin;
+
+// KafkaAdmin creates these on startup and raises the partition count of existing topics that have fewer
+@Configuration
+public class KafkaTopicConfig {
+
+    @Value("${kafka.topics.partitions:12}")
+    private int partitions;
+
+    @Value("${kafka.topics.replicas:1}")
+    private int replicas;
+
+    @Bean
+    public KafkaAdmin.NewTopics paymentTopics(
+        @Value("${kafka.topics.payment-created:payment-created}") String paymentCreated,
+        @Value("${kafka.topics.payment-completed:payment-completed}") String paymentCompleted,
+        @Value("${kafka.topics.payment-failed:payment-failed}") String paymentFailed,
+        @Value("${kafka.topics.payment-transitioned:payment-transitioned}") String paymentTransitioned
+    ) {
+        return new KafkaAdmin.NewTopics(
+            topic(paymentCreated),
+            topic(paymentCompleted),
+            topic(paymentFailed),
+            topic(paymentTransitioned)
+        );
+    }
+
+    private NewTopic topic(String name) {
+        return TopicBuilder.name(name).partitions(partitions).replicas(replicas).build();
+    }
+}
@@ -1,7 +1,12 @@
 package com.rentflow.payment.kafka;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.rentflow.payment.events.*;
+import com.rentflow.events.PartitionKey;
+import com.rentflow.events.PaymentCompleted;
+import com.rentflow.events.PaymentCreated;
+import com.rentflow.events.PaymentFailed;
+import com.rentflow.events.PaymentMethod;
+import com.rentflow.events.PaymentType;
 import com.rentflow.payment.model.Payment;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,6 +17,8 @@ import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
@@ -23,6 +30,9 @@ public class PaymentEventPublisher {
     private final KafkaTemplate<UUID, Object> kafkaTemplate;
     private final ObjectMapper objectMapper;
 
+    @Value("${kafka.partition-key:LEASE}")
+    private PartitionKey partitionKey;
+
     @Value("${kafka.topics.payment-created:payment-created}")
     private String paymentCreatedTopic;
 
@@ -33,21 +43,48 @@ public class PaymentEventPublisher {
     private String paymentFailedTopic;
 
     public void publishPaymentCreated(Payment payment) {
-        var event = new PaymentCreated(
+        publish(paymentCreatedTopic, key(payment), paymentCreated(payment));
+    }
+
+    // Sends every event before a single flush, so the producer packs them into as few requests as batch.size allows.
+    // The list gets one completion callback and one log line; failures are still logged per event
+    public void publishPaymentsCreated(List<Payment> payments) {
+        var sends = new ArrayList<CompletableFuture<SendResult<UUID, Object>>>(payments.size());
+        for (var payment : payments) {
+            try {
+                sends.add(kafkaTemplate.send(paymentCreatedTopic, key(payment), paymentCreated(payment)));
+            } catch (Exception e) {
+                sends.add(CompletableFuture.failedFuture(e));
+            }
+        }
+        kafkaTemplate.flush();
+        CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).whenComplete((result, ex) -> {
+            var failed = 0;
+            for (int i = 0; i < sends.size(); i++) {
+                if (sends.get(i).isCompletedExceptionally()) {
+                    failed++;
+                    log.error("Failed to publish event to {} for payment {}: {}",
+                        paymentCreatedTopic, payments.get(i).getId(), sends.get(i).exceptionNow().getMessage());
+                }
+            }
+            log.info("Published {} of {} events to {}", sends.size() - failed, sends.size(), paymentCreatedTopic);
+        });
+    }
+
+    private PaymentCreated paymentCreated(Payment payment) {
+        return new PaymentCreated(
             payment.getId(),
             payment.getTenantId(),
             payment.getPropertyId(),
             payment.getLeaseId(),
             payment.getAmount(),
             payment.getCurrency(),
-            payment.getPaymentMethod().name(),
-            payment.getPaymentType().name(),
+            PaymentMethod.valueOf(payment.getPaymentMethod().name()),
+            PaymentType.valueOf(payment.getPaymentType().name()),
             payment.getScheduledFor(),
             Instant.now(),
-            1
+            PaymentCreated.CURRENT_VERSION
         );
-
-        publish(paymentCreatedTopic, payment.getId(), event);
     }
 
     public void publishPaymentCompleted(Payment payment) {
@@ -59,10 +96,10 @@ public class PaymentEventPublisher {
             payment.getPaymentMethod().name(),
             payment.getCompletedAt() != null ? payment.getCompletedAt() : Instant.now(),
             Instant.now(),
-            1
+            PaymentCompleted.CURRENT_VERSION
         );
 
-        publish(paymentCompletedTopic, payment.getId(), event);
+        publish(paymentCompletedTopic, key(payment), event);
     }
 
     public void publishPaymentFailed(Payment payment, Throwable error) {
@@ -73,10 +110,14 @@ public class PaymentEventPublisher {
             payment.canRetry(),
             payment.getRetryAfter(),
             Instant.now(),
-            1
+            PaymentFailed.CURRENT_VERSION
         );
 
-        publish(paymentFailedTopic, payment.getId(), event);
+        publish(paymentFailedTopic, key(payment), event);
+    }
+
+    private UUID key(Payment payment) {
+        return partitionKey.select(payment.getLeaseId(), payment.getTenantId());
     }
 
     private void publish(String topic, UUID key, Object event) {
@@ -0,0 +1,39 @@
+package com.rentflow.payment.metrics;
+
+import com.rentflow.payment.events.PaymentStatusChanged;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@RequiredArgsConstructor
+public class PaymentMetrics {
+
+    // Time a payment spent in the "from" status before moving to "to"; SLO buckets are set in application.yml
+    static final String TRANSITION = "rentflow.payment.transition";
+
+    private final MeterRegistry meterRegistry;
+
+    // Recorded as the transition happens, so failures are counted even when their transaction rolls back
+    @EventListener
+    public void onStatusChanged(PaymentStatusChanged event) {
+        if (event.oldStatusSince() == null || event.oldStatus() == null) {
+            return;
+        }
+        var elapsed = Duration.between(event.oldStatusSince(), event.occurredAt());
+        if (elapsed.isNegative()) {
+            elapsed = Duration.ZERO;
+        }
+        Timer.builder(TRANSITION)
+            .description("Time spent in a payment status before transitioning")
+            .tag("from", event.oldStatus().name())
+            .tag("to", event.newStatus().name())
+            .tag("method", event.paymentMethod() != null ? event.paymentMethod().name() : "UNKNOWN")
+            .register(meterRegistry)
+            .record(elapsed);
+    }
+}
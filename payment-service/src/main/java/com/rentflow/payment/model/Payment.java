@@ -1,5 +1,7 @@
 package com.rentflow.payment.model;
 
+import com.rentflow.persistence.GeneratedUuidV7;
+import com.rentflow.persistence.PersistableEntity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
@@ -15,7 +17,8 @@ import java.util.*;
     @Index(name = "idx_payments_tenant", columnList = "tenant_id"),
     @Index(name = "idx_payments_lease", columnList = "lease_id"),
     @Index(name = "idx_payments_status", columnList = "status"),
-    @Index(name = "idx_payments_scheduled", columnList = "scheduled_for")
+    @Index(name = "idx_payments_scheduled", columnList = "scheduled_for"),
+    @Index(name = "idx_payments_parent", columnList = "parent_payment_id")
 })
 @EntityListeners(AuditingEntityListener.class)
 @Getter
@@ -23,10 +26,10 @@ import java.util.*;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class Payment {
+public class Payment extends PersistableEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     private UUID id;
 
     @Column(nullable = false)
@@ -70,6 +73,10 @@ public class Payment {
     @Builder.Default
     private PaymentStatus status = PaymentStatus.PENDING;
 
+    // Set only when status changes; updated_at also moves for retry bookkeeping and other writes
+    @Column(nullable = false)
+    private Instant statusChangedAt;
+
     @Column(precision = 19, scale = 2)
     private BigDecimal settledAmount;
 
@@ -135,6 +142,9 @@ public class Payment {
         if (idempotencyKey == null) {
             idempotencyKey = UUID.randomUUID();
         }
+        if (statusChangedAt == null) {
+            statusChangedAt = Instant.now();
+        }
     }
 
     public boolean canRetry() {
@@ -142,29 +152,4 @@ public class Payment {
                (status == PaymentStatus.FAILED || status == PaymentStatus.PENDING) &&
                (retryAfter == null || retryAfter.isBefore(Instant.now()));
     }
-
-    public void incrementRetry() {
-        this.retryCount++;
-        this.retryAfter = Instant.now().plusSeconds(calculateRetryDelay());
-    }
-
-    private long calculateRetryDelay() {
-        return (long) Math.pow(2, retryCount) * 60; // Exponential backoff: 2min, 4min, 8min
-    }
-
-    public void markAsProcessing() {
-        this.status = PaymentStatus.PROCESSING;
-    }
-
-    public void markAsCompleted(BigDecimal settledAmount, String transactionId) {
-        this.status = PaymentStatus.COMPLETED;
-        this.settledAmount = settledAmount;
-        this.transactionId = transactionId;
-        this.completedAt = Instant.now();
-    }
-
-    public void markAsFailed(String reason) {
-        this.status = PaymentStatus.FAILED;
-        this.failureReason = reason;
-    }
 }
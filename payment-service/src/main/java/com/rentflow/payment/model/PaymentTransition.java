@@ -0,0 +1,35 @@
+package com.rentflow.payment.model;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+// Every status change a payment can make. Each one is applied as a single conditional UPDATE guarded by "from",
+// so of two concurrent callers exactly one wins and the other sees the row it lost to
+public enum PaymentTransition {
+
+    START_PROCESSING(PaymentStatus.PROCESSING, EnumSet.of(PaymentStatus.PENDING, PaymentStatus.FAILED)),
+    COMPLETE(PaymentStatus.COMPLETED, EnumSet.of(PaymentStatus.PROCESSING)),
+    FAIL(PaymentStatus.FAILED, EnumSet.of(PaymentStatus.PROCESSING)),
+    // A payment already with the partner has to complete or fail first
+    CANCEL(PaymentStatus.CANCELLED, EnumSet.of(PaymentStatus.PENDING, PaymentStatus.FAILED, PaymentStatus.PARTIALLY_SETTLED));
+
+    private final PaymentStatus target;
+    private final Set<PaymentStatus> from;
+
+    PaymentTransition(PaymentStatus target, Set<PaymentStatus> from) {
+        this.target = target;
+        this.from = from;
+    }
+
+    public PaymentStatus target() {
+        return target;
+    }
+
+    public Set<PaymentStatus> from() {
+        return from;
+    }
+
+    public boolean allowedFrom(PaymentStatus status) {
+        return from.contains(status);
+    }
+}
@@ -0,0 +1,6 @@
+package com.rentflow.payment.model;
+
+import java.time.Instant;
+
+// The row as the winning UPDATE left it, with the status it replaced and when that status was set
+public record StatusTransition(Payment payment, PaymentStatus previousStatus, Instant previousStatusSince) {}
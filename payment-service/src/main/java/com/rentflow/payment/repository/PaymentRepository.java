@@ -8,12 +8,13 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface PaymentRepository extends JpaRepository<Payment, UUID> {
+public interface PaymentRepository extends JpaRepository<Payment, UUID>, PaymentRepositoryCustom {
 
     Optional<Payment> findByIdempotencyKey(UUID idempotencyKey);
 
@@ -21,21 +22,30 @@ public interface PaymentRepository extends JpaRepository<Payment, UUID> {
 
     List<Payment> findByLeaseIdOrderByCreatedAtDesc(UUID leaseId);
 
-    List<Payment> findByStatusAndScheduledForBefore(
-        PaymentStatus status,
-        Instant scheduledFor
+    // Ids only: a sweep over a large backlog claims and loads each payment itself
+    @Query("""
+        SELECT p.id FROM Payment p
+        WHERE p.status = :status
+        AND p.scheduledFor < :before
+        ORDER BY p.scheduledFor ASC
+        """)
+    List<UUID> findIdsByStatusAndScheduledForBefore(
+        @Param("status") PaymentStatus status,
+        @Param("before") Instant before
     );
 
     List<Payment> findByParentPaymentId(UUID parentPaymentId);
 
+    List<Payment> findByParentPaymentIdIn(Collection<UUID> parentPaymentIds);
+
     @Query("""
-        SELECT p FROM Payment p
+        SELECT p.id FROM Payment p
         WHERE p.status = :status
-        AND p.retryAfter IS NULL OR p.retryAfter < :now
+        AND (p.retryAfter IS NULL OR p.retryAfter < :now)
         AND p.retryCount < p.maxRetries
         ORDER BY p.scheduledFor ASC
         """)
-    List<Payment> findRetryablePayments(
+    List<UUID> findRetryablePaymentIds(
         @Param("status") PaymentStatus status,
         @Param("now") Instant now
     );
@@ -0,0 +1,34 @@
+package com.rentflow.payment.repository;
+
+import com.rentflow.payment.model.StatusTransition;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+public interface PaymentRepositoryCustom {
+
+    // Each returns empty when the payment is missing or its status does not allow the transition. A transition
+    // that is applied also writes its payment_audit_log row
+    Optional<StatusTransition> startProcessing(UUID id);
+
+    Optional<StatusTransition> complete(UUID id, BigDecimal settledAmount, String transactionId);
+
+    Optional<StatusTransition> fail(UUID id, String reason);
+
+    Optional<StatusTransition> cancel(UUID id, String reason);
+
+    // Payment id per idempotency key, for the keys that already have a payment
+    Map<UUID, UUID> findIdsByIdempotencyKeys(Collection<UUID> idempotencyKeys);
+
+    Set<UUID> findExistingIds(Collection<UUID> ids);
+
+    // ETag values: a digest of the id and version of every row the response is built from, partial payments
+    // included. Empty when the payment does not exist
+    Optional<String> findPaymentTag(UUID id);
+
+    String findTenantPaymentsTag(UUID tenantId);
+}
@@ -0,0 +1,208 @@
+package com.rentflow.payment.repository;
+
+import com.rentflow.payment.model.Payment;
+import com.rentflow.payment.model.PaymentMethod;
+import com.rentflow.payment.model.PaymentStatus;
+import com.rentflow.payment.model.PaymentTransition;
+import com.rentflow.payment.model.PaymentType;
+import com.rentflow.payment.model.StatusTransition;
+import com.rentflow.persistence.UuidV7;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class PaymentRepositoryImpl implements PaymentRepositoryCustom {
+
+    private static final int FAILURE_REASON_LENGTH = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.application.name:payment-service}")
+    private String changedBy;
+
+    @Override
+    public Optional<StatusTransition> startProcessing(UUID id) {
+        return transition(id, PaymentTransition.START_PROCESSING, null, "", List.of());
+    }
+
+    @Override
+    public Optional<StatusTransition> complete(UUID id, BigDecimal settledAmount, String transactionId) {
+        return transition(id, PaymentTransition.COMPLETE, null,
+            ", settled_amount = ?, transaction_id = ?, completed_at = ?",
+            Arrays.asList(settledAmount, transactionId, now()));
+    }
+
+    // Exponential backoff: 2min, 4min, 8min after the first, second and third failure, capped at about 17 hours
+    @Override
+    public Optional<StatusTransition> fail(UUID id, String reason) {
+        return transition(id, PaymentTransition.FAIL, reason,
+            ", failure_reason = ?, retry_count = p.retry_count + 1"
+                + ", retry_after = ? + make_interval(secs => power(2, least(p.retry_count + 1, 10)) * 60)",
+            Arrays.asList(truncate(reason), now()));
+    }
+
+    @Override
+    public Optional<StatusTransition> cancel(UUID id, String reason) {
+        return transition(id, PaymentTransition.CANCEL, reason, "", List.of());
+    }
+
+    // One array parameter instead of an IN list, so every chunk size shares a single prepared statement
+    @Override
+    public Map<UUID, UUID> findIdsByIdempotencyKeys(Collection<UUID> idempotencyKeys) {
+        var ids = new HashMap<UUID, UUID>();
+        jdbcTemplate.query("SELECT idempotency_key, id FROM payments WHERE idempotency_key = ANY(?)",
+            ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", idempotencyKeys.toArray())),
+            rs -> {
+                ids.putIfAbsent(rs.getObject("idempotency_key", UUID.class), rs.getObject("id", UUID.class));
+            });
+        return ids;
+    }
+
+    @Override
+    public Set<UUID> findExistingIds(Collection<UUID> ids) {
+        return new HashSet<>(jdbcTemplate.query("SELECT id FROM payments WHERE id = ANY(?)",
+            ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids.toArray())),
+            (rs, rowNum) -> rs.getObject("id", UUID.class)));
+    }
+
+    @Override
+    public Optional<String> findPaymentTag(UUID id) {
+        var rows = jdbcTemplate.query("""
+            SELECT md5(string_agg(id || ':' || version, ',' ORDER BY id)) AS tag
+            FROM payments
+            WHERE id = ? OR parent_payment_id = ?
+            HAVING bool_or(id = ?)
+            """, (rs, rowNum) -> rs.getString("tag"), id, id, id);
+        return rows.stream().findFirst();
+    }
+
+    // UNION rather than an OR over a sub-select, so both halves stay index scans
+    @Override
+    public String findTenantPaymentsTag(UUID tenantId) {
+        return jdbcTemplate.queryForObject("""
+            SELECT md5(coalesce(string_agg(id || ':' || version, ',' ORDER BY id), '')) FROM (
+                SELECT id, version FROM payments WHERE tenant_id = ?
+                UNION
+                SELECT c.id, c.version FROM payments p
+                JOIN payments c ON c.parent_payment_id = p.id
+                WHERE p.tenant_id = ?
+            ) tagged
+            """, String.class, tenantId, tenantId);
+    }
+
+    // The locking sub-select re-reads the row after any concurrent writer commits, so "previous" is the status
+    // actually replaced, and a row that moved out of the allowed statuses in the meantime is not updated at all.
+    // The audit row is inserted by the same statement, so it commits or rolls back with the transition
+    private Optional<StatusTransition> transition(UUID id, PaymentTransition transition, String reason,
+                                                  String columns, List<Object> values) {
+        var from = new ArrayList<>(transition.from());
+        var sql = """
+            WITH updated AS (
+                UPDATE payments p
+                SET status = ?, status_changed_at = ?, updated_at = ?, version = p.version + 1%s
+                FROM (
+                    SELECT id, status, status_changed_at FROM payments
+                    WHERE id = ? AND status IN (%s)
+                    FOR UPDATE
+                ) previous
+                WHERE p.id = previous.id
+                RETURNING previous.status AS previous_status, previous.status_changed_at AS previous_status_changed_at, p.*
+            ), audited AS (
+                INSERT INTO payment_audit_log (id, payment_id, old_status, new_status, changed_by, change_reason, created_at)
+                SELECT ?, id, previous_status, status, ?, ?, status_changed_at FROM updated
+            )
+            SELECT * FROM updated
+            """.formatted(columns, String.join(", ", Collections.nCopies(from.size(), "?")));
+
+        var args = new ArrayList<>();
+        var now = now();
+        args.add(transition.target().name());
+        args.add(now);
+        args.add(now);
+        args.addAll(values);
+        args.add(id);
+        from.forEach(status -> args.add(status.name()));
+        args.add(UuidV7.next());
+        args.add(changedBy);
+        args.add(truncate(reason));
+
+        var rows = jdbcTemplate.query(sql, (rs, rowNum) -> new StatusTransition(
+            payment(rs),
+            PaymentStatus.valueOf(rs.getString("previous_status")),
+            instant(rs, "previous_status_changed_at")
+        ), args.toArray());
+        return rows.stream().findFirst();
+    }
+
+    private static Payment payment(ResultSet rs) throws SQLException {
+        return Payment.builder()
+            .id(rs.getObject("id", UUID.class))
+            .tenantId(rs.getObject("tenant_id", UUID.class))
+            .propertyId(rs.getObject("property_id", UUID.class))
+            .leaseId(rs.getObject("lease_id", UUID.class))
+            .amount(rs.getBigDecimal("amount"))
+            .currency(rs.getString("currency"))
+            .paymentType(PaymentType.valueOf(rs.getString("payment_type")))
+            .paymentMethod(PaymentMethod.valueOf(rs.getString("payment_method")))
+            .bankAccountId(rs.getString("bank_account_id"))
+            .externalPaymentId(rs.getString("external_payment_id"))
+            .stripePaymentIntentId(rs.getString("stripe_payment_intent_id"))
+            .plaidProcessorToken(rs.getString("plaid_processor_token"))
+            .status(PaymentStatus.valueOf(rs.getString("status")))
+            .statusChangedAt(instant(rs, "status_changed_at"))
+            .settledAmount(rs.getBigDecimal("settled_amount"))
+            .feeAmount(rs.getBigDecimal("fee_amount"))
+            .transactionId(rs.getString("transaction_id"))
+            .failureReason(rs.getString("failure_reason"))
+            .retryCount(rs.getInt("retry_count"))
+            .maxRetries(rs.getInt("max_retries"))
+            .retryAfter(instant(rs, "retry_after"))
+            .scheduledFor(instant(rs, "scheduled_for"))
+            .completedAt(instant(rs, "completed_at"))
+            .idempotencyKey(rs.getObject("idempotency_key", UUID.class))
+            .description(rs.getString("description"))
+            .metadata(rs.getString("metadata"))
+            .partialPayment(rs.getBoolean("partial_payment"))
+            .parentPaymentId(rs.getObject("parent_payment_id", UUID.class))
+            .createdAt(instant(rs, "created_at"))
+            .updatedAt(instant(rs, "updated_at"))
+            .version(rs.getInt("version"))
+            .build();
+    }
+
+    // Bound and read as UTC offsets, the way Hibernate maps Instant, so both paths agree on stored values
+    private static OffsetDateTime now() {
+        return OffsetDateTime.now(ZoneOffset.UTC);
+    }
+
+    private static Instant instant(ResultSet rs, String column) throws SQLException {
+        var value = rs.getObject(column, OffsetDateTime.class);
+        return value != null ? value.toInstant() : null;
+    }
+
+    private static String truncate(String reason) {
+        if (reason == null) {
+            return null;
+        }
+        return reason.length() <= FAILURE_REASON_LENGTH ? reason : reason.substring(0, FAILURE_REASON_LENGTH);
+    }
+}
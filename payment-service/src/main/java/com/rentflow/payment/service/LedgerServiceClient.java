@@ -22,9 +22,10 @@ public class LedgerServiceClient {
     private final WebClient webClient;
 
     public LedgerServiceClient(
+        WebClient.Builder webClientBuilder,
         @Value("${services.ledger.url:http://localhost:8084}") String baseUrl
     ) {
-        this.webClient = WebClient.builder()
+        this.webClient = webClientBuilder
             .baseUrl(baseUrl)
             .build();
     }
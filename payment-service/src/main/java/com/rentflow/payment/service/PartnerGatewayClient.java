@@ -19,10 +19,12 @@ public class PartnerGatewayClient {
 
     private final WebClient webClient;
 
+    // The Boot-managed builder carries the observation filter that propagates the trace context
     public PartnerGatewayClient(
+        WebClient.Builder webClientBuilder,
         @Value("${services.partner-gateway.url:http://localhost:8083}") String baseUrl
     ) {
-        this.webClient = WebClient.builder()
+        this.webClient = webClientBuilder
             .baseUrl(baseUrl)
             .build();
     }
@@ -0,0 +1,160 @@
+package com.rentflow.payment.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rentflow.payment.dto.CreatePaymentRequest;
+import com.rentflow.payment.kafka.PaymentEventPublisher;
+import com.rentflow.payment.model.Payment;
+import com.rentflow.payment.repository.PaymentRepository;
+import com.rentflow.persistence.batch.BatchImport;
+import com.rentflow.persistence.batch.BatchImport.Result;
+import com.rentflow.persistence.batch.BatchImport.Row;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+// Bulk counterpart of PaymentService.createPayment. Rows are parsed and validated as they arrive and handled a chunk
+// at a time: one idempotency lookup, one batched insert and one Kafka flush per chunk, instead of per payment
+@Slf4j
+@Service
+public class PaymentBatchService {
+
+    public enum RowStatus { CREATED, EXISTING, REJECTED, FAILED }
+
+    private final PaymentService paymentService;
+    private final PaymentRepository paymentRepository;
+    private final PaymentEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final BatchImport<CreatePaymentRequest, RowStatus> batchImport;
+    private final int chunkSize;
+
+    public PaymentBatchService(
+        PaymentService paymentService,
+        PaymentRepository paymentRepository,
+        PaymentEventPublisher eventPublisher,
+        ObjectMapper objectMapper,
+        Validator validator,
+        EntityManager entityManager,
+        PlatformTransactionManager transactionManager,
+        @Value("${payments.batch.chunk-size:500}") int chunkSize,
+        @Value("${payments.batch.max-rows:100000}") int maxRows
+    ) {
+        this.paymentService = paymentService;
+        this.paymentRepository = paymentRepository;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchImport = new BatchImport<>(objectMapper, validator, CreatePaymentRequest.class, RowStatus.class,
+            "paymentId", chunkSize, maxRows);
+        this.chunkSize = chunkSize;
+    }
+
+    // Reads a JSON array or NDJSON of CreatePaymentRequest and writes one NDJSON line per row as each chunk commits,
+    // then a summary line. Malformed JSON ends the batch; the rows before it are kept
+    public void importPayments(InputStream in, OutputStream out) {
+        // Idempotency key to payment id for everything created so far, so a repeated key later in the batch
+        // resolves without another lookup
+        var seen = new HashMap<UUID, UUID>();
+        var summary = batchImport.run(in, out, chunk -> process(chunk, seen));
+        log.info("Imported payment batch: {} rows, {}{}", summary.rows(), summary.totals(),
+            summary.error() != null ? ", " + summary.error() : "");
+    }
+
+    private List<Result<RowStatus>> process(List<Row<CreatePaymentRequest>> rows, Map<UUID, UUID> seen) {
+        var results = new ArrayList<Result<RowStatus>>(rows.size());
+        List<Payment> created;
+        try {
+            created = transactionTemplate.execute(status -> insert(rows, seen, results));
+        } catch (RuntimeException e) {
+            log.error("Failed to import payment rows {}-{}", rows.get(0).number(), rows.get(rows.size() - 1).number(), e);
+            results.clear();
+            for (var row : rows) {
+                results.add(row.request() == null
+                    ? new Result<>(row.number(), RowStatus.REJECTED, null, row.errors())
+                    : new Result<>(row.number(), RowStatus.FAILED, null, List.of(String.valueOf(e.getMessage()))));
+            }
+            return results;
+        }
+        // After the commit, so consumers never see a payment that was rolled back
+        eventPublisher.publishPaymentsCreated(created);
+        created.forEach(payment -> seen.put(payment.getIdempotencyKey(), payment.getId()));
+        return results;
+    }
+
+    private List<Payment> insert(List<Row<CreatePaymentRequest>> rows, Map<UUID, UUID> seen, List<Result<RowStatus>> results) {
+        var keys = new HashSet<UUID>();
+        var parentIds = new HashSet<UUID>();
+        for (var row : rows) {
+            if (row.request() != null) {
+                var request = row.request();
+                if (request.idempotencyKey() != null && !seen.containsKey(request.idempotencyKey())) {
+                    keys.add(request.idempotencyKey());
+                }
+                if (isPartial(request)) {
+                    parentIds.add(request.parentPaymentId());
+                }
+            }
+        }
+        var existing = keys.isEmpty() ? Map.<UUID, UUID>of() : paymentRepository.findIdsByIdempotencyKeys(keys);
+        var parents = parentIds.isEmpty() ? Set.<UUID>of() : paymentRepository.findExistingIds(parentIds);
+
+        var inChunk = new HashMap<UUID, UUID>();
+        var payments = new ArrayList<Payment>();
+        for (var row : rows) {
+            var request = row.request();
+            if (request == null) {
+                results.add(new Result<>(row.number(), RowStatus.REJECTED, null, row.errors()));
+                continue;
+            }
+            var key = request.idempotencyKey();
+            if (key != null) {
+                var id = seen.containsKey(key) ? seen.get(key) : inChunk.getOrDefault(key, existing.get(key));
+                if (id != null) {
+                    results.add(new Result<>(row.number(), RowStatus.EXISTING, id, List.of()));
+                    continue;
+                }
+            }
+
+            Payment payment;
+            if (isPartial(request)) {
+                if (!parents.contains(request.parentPaymentId())) {
+                    results.add(new Result<>(row.number(), RowStatus.REJECTED, null,
+                        List.of("parentPaymentId: Parent payment not found")));
+                    continue;
+                }
+                payment = paymentService.createPartialPayment(request, request.parentPaymentId());
+            } else {
+                payment = paymentService.createFullPayment(request);
+            }
+            if (key != null) {
+                inChunk.put(key, payment.getId());
+            }
+            payments.add(payment);
+            results.add(new Result<>(row.number(), RowStatus.CREATED, payment.getId(), List.of()));
+        }
+
+        // The whole chunk goes out in one JDBC batch at commit, rewritten by the driver into multi-row INSERTs
+        entityManager.unwrap(Session.class).setJdbcBatchSize(chunkSize);
+        paymentRepository.saveAll(payments);
+        return payments;
+    }
+
+    private static boolean isPartial(CreatePaymentRequest request) {
+        return Boolean.TRUE.equals(request.partialPayment()) && request.parentPaymentId() != null;
+    }
+}
@@ -1,17 +1,21 @@
 package com.rentflow.payment.service;
 
 import com.rentflow.payment.dto.*;
+import com.rentflow.payment.events.PaymentStatusChanged;
 import com.rentflow.payment.exception.*;
 import com.rentflow.payment.kafka.PaymentEventPublisher;
 import com.rentflow.payment.model.Payment;
 import com.rentflow.payment.model.PaymentMethod;
-import com.rentflow.payment.model.PaymentStatus;
+import com.rentflow.payment.model.PaymentTransition;
 import com.rentflow.payment.model.PaymentType;
+import com.rentflow.payment.model.StatusTransition;
 import com.rentflow.payment.repository.PaymentRepository;
+import com.rentflow.persistence.UuidV7;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -20,8 +24,13 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -32,6 +41,7 @@ public class PaymentService {
     private final PaymentEventPublisher eventPublisher;
     private final PartnerGatewayClient partnerGatewayClient;
     private final LedgerServiceClient ledgerServiceClient;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional
     public PaymentResponse createPayment(CreatePaymentRequest request) {
@@ -61,9 +71,9 @@ public class PaymentService {
         return toResponse(payment);
     }
 
-    private Payment createFullPayment(CreatePaymentRequest request) {
+    Payment createFullPayment(CreatePaymentRequest request) {
         return Payment.builder()
-            .id(UUID.randomUUID())
+            .id(UuidV7.next())
             .tenantId(request.tenantId())
             .propertyId(request.propertyId())
             .leaseId(request.leaseId())
@@ -83,9 +93,12 @@ public class PaymentService {
     private Payment createPartialPayment(CreatePaymentRequest request) {
         var parent = paymentRepository.findById(request.parentPaymentId())
             .orElseThrow(() -> new IllegalArgumentException("Parent payment not found"));
+        return createPartialPayment(request, parent.getId());
+    }
 
+    Payment createPartialPayment(CreatePaymentRequest request, UUID parentId) {
         return Payment.builder()
-            .id(UUID.randomUUID())
+            .id(UuidV7.next())
             .tenantId(request.tenantId())
             .propertyId(request.propertyId())
             .leaseId(request.leaseId())
@@ -97,8 +110,9 @@ public class PaymentService {
             .plaidProcessorToken(request.plaidProcessorToken())
             .scheduledFor(request.scheduledFor() != null ? request.scheduledFor() : Instant.now())
             .description(request.description())
+            .idempotencyKey(request.idempotencyKey())
             .partialPayment(true)
-            .parentPaymentId(parent.getId())
+            .parentPaymentId(parentId)
             .build();
     }
 
@@ -110,6 +124,41 @@ public class PaymentService {
         return toResponse(payment);
     }
 
+    // Two queries whatever the number of ids: the payments by id, then the partial payments of all of them
+    @Transactional(readOnly = true)
+    public PaymentLookupResponse lookupPayments(List<UUID> ids) {
+        var requested = new LinkedHashSet<>(ids);
+        var payments = paymentRepository.findAllById(requested).stream()
+            .collect(Collectors.toMap(Payment::getId, Function.identity()));
+        var partials = payments.isEmpty() ? Map.<UUID, List<Payment>>of()
+            : paymentRepository.findByParentPaymentIdIn(payments.keySet()).stream()
+                .collect(Collectors.groupingBy(Payment::getParentPaymentId));
+
+        var found = new ArrayList<PaymentResponse>(payments.size());
+        var notFound = new ArrayList<UUID>();
+        for (var id : requested) {
+            var payment = payments.get(id);
+            if (payment == null) {
+                notFound.add(id);
+            } else {
+                found.add(toResponse(payment, partials.getOrDefault(id, List.of())));
+            }
+        }
+        return new PaymentLookupResponse(found, notFound);
+    }
+
+    // Answers a conditional GET from the version columns alone, without loading or mapping the payments
+    @Transactional(readOnly = true)
+    public String getPaymentTag(UUID id) {
+        return paymentRepository.findPaymentTag(id)
+            .orElseThrow(() -> new PaymentNotFoundException(id));
+    }
+
+    @Transactional(readOnly = true)
+    public String getTenantPaymentsTag(UUID tenantId) {
+        return paymentRepository.findTenantPaymentsTag(tenantId);
+    }
+
     @Transactional(readOnly = true)
     public List<PaymentResponse> getPaymentsByTenant(UUID tenantId) {
         return paymentRepository.findByTenantIdOrderByCreatedAtDesc(tenantId)
@@ -118,114 +167,89 @@ public class PaymentService {
             .toList();
     }
 
-    @Transactional
+    // Not transactional: the claim has to commit before the partner call, so a concurrent caller gets a conflict
+    // at once instead of blocking on the row lock for the whole round trip
     @CacheEvict(value = "payments", key = "#id")
     public PaymentResponse processPayment(UUID id) {
-        var payment = paymentRepository.findById(id)
-            .orElseThrow(() -> new PaymentNotFoundException(id));
-
-        if (payment.getStatus() != PaymentStatus.PENDING && payment.getStatus() != PaymentStatus.FAILED) {
-            throw new PaymentAlreadyProcessedException(id, payment.getStatus());
-        }
-
-        payment.markAsProcessing();
-        paymentRepository.save(payment);
-
+        var claimed = paymentRepository.startProcessing(id)
+            .orElseThrow(() -> {
+                var current = paymentRepository.findById(id).orElseThrow(() -> new PaymentNotFoundException(id));
+                return new PaymentAlreadyProcessedException(id, current.getStatus());
+            });
+        statusChanged(claimed, null);
+        var payment = claimed.payment();
+
+        PaymentResult result;
         try {
             // Initiate payment via partner gateway
-            var result = partnerGatewayClient.initiatePayment(payment);
+            result = partnerGatewayClient.initiatePayment(payment);
 
             // Create ledger entry
             ledgerServiceClient.createLedgerEntry(payment, result.transactionId());
-
-            // Update payment
-            payment.markAsCompleted(result.settledAmount(), result.transactionId());
-            paymentRepository.save(payment);
-
-            // Publish completion event
-            eventPublisher.publishPaymentCompleted(payment);
-
-            log.info("Successfully processed payment: {}", id);
-            return toResponse(payment);
-
         } catch (Exception e) {
-            payment.markAsFailed(e.getMessage());
-            payment.incrementRetry();
-            paymentRepository.save(payment);
-
-            eventPublisher.publishPaymentFailed(payment, e);
+            var failed = paymentRepository.fail(id, e.getMessage())
+                .orElseThrow(() -> conflict(id, PaymentTransition.FAIL));
+            statusChanged(failed, e.getMessage());
+            eventPublisher.publishPaymentFailed(failed.payment(), e);
 
             log.error("Failed to process payment: {}", id, e);
             throw new PaymentProcessingException("Payment processing failed: " + e.getMessage(), e);
         }
-    }
-
-    @Transactional
-    public void cancelPayment(UUID id) {
-        var payment = paymentRepository.findById(id)
-            .orElseThrow(() -> new PaymentNotFoundException(id));
 
-        if (payment.getStatus() == PaymentStatus.COMPLETED) {
-            throw new PaymentCannotBeCancelledException(id);
-        }
+        var completed = paymentRepository.complete(id, result.settledAmount(), result.transactionId())
+            .orElseThrow(() -> conflict(id, PaymentTransition.COMPLETE));
+        statusChanged(completed, null);
 
-        payment.setStatus(PaymentStatus.CANCELLED);
-        paymentRepository.save(payment);
+        // Publish completion event
+        eventPublisher.publishPaymentCompleted(completed.payment());
 
-        log.info("Cancelled payment: {}", id);
+        log.info("Successfully processed payment: {}", id);
+        return toResponse(completed.payment());
     }
 
-    @Transactional
-    public int processScheduledPayments() {
-        var scheduledPayments = paymentRepository.findByStatusAndScheduledForBefore(
-            PaymentStatus.PENDING,
-            Instant.now()
-        );
-
-        log.info("Found {} scheduled payments to process", scheduledPayments.size());
+    @CacheEvict(value = "payments", key = "#id")
+    public void cancelPayment(UUID id) {
+        var reason = "Cancelled by request";
+        var cancelled = paymentRepository.cancel(id, reason)
+            .orElseThrow(() -> {
+                paymentRepository.findById(id).orElseThrow(() -> new PaymentNotFoundException(id));
+                return new PaymentCannotBeCancelledException(id);
+            });
+        statusChanged(cancelled, reason);
 
-        int processed = 0;
-        for (var payment : scheduledPayments) {
-            try {
-                processPayment(payment.getId());
-                processed++;
-            } catch (Exception e) {
-                log.error("Failed to process scheduled payment: {}", payment.getId(), e);
-            }
-        }
+        log.info("Cancelled payment: {}", id);
+    }
 
-        return processed;
+    @Transactional(readOnly = true)
+    public BigDecimal getTotalPaidForLease(UUID leaseId) {
+        return paymentRepository.sumSettledAmountByLeaseId(leaseId);
     }
 
-    @Transactional
-    public int retryFailedPayments() {
-        var retryablePayments = paymentRepository.findRetryablePayments(
-            PaymentStatus.FAILED,
+    private void statusChanged(StatusTransition transition, String reason) {
+        var payment = transition.payment();
+        applicationEventPublisher.publishEvent(new PaymentStatusChanged(
+            payment.getId(),
+            payment.getTenantId(),
+            payment.getLeaseId(),
+            payment.getPaymentMethod(),
+            transition.previousStatus(),
+            payment.getStatus(),
+            transition.previousStatusSince(),
+            reason,
             Instant.now()
-        );
-
-        log.info("Found {} retryable payments", retryablePayments.size());
-
-        int retried = 0;
-        for (var payment : retryablePayments) {
-            try {
-                processPayment(payment.getId());
-                retried++;
-            } catch (Exception e) {
-                log.error("Retry failed for payment: {}", payment.getId(), e);
-            }
-        }
-
-        return retried;
+        ));
     }
 
-    @Transactional(readOnly = true)
-    public BigDecimal getTotalPaidForLease(UUID leaseId) {
-        return paymentRepository.sumSettledAmountByLeaseId(leaseId);
+    private PaymentTransitionConflictException conflict(UUID id, PaymentTransition transition) {
+        var current = paymentRepository.findById(id).orElseThrow(() -> new PaymentNotFoundException(id));
+        return new PaymentTransitionConflictException(id, transition, current.getStatus());
     }
 
     private PaymentResponse toResponse(Payment payment) {
-        var partialPayments = paymentRepository.findByParentPaymentId(payment.getId());
+        return toResponse(payment, paymentRepository.findByParentPaymentId(payment.getId()));
+    }
+
+    private PaymentResponse toResponse(Payment payment, List<Payment> partialPayments) {
         var partialSummaries = partialPayments.stream()
             .map(pp -> new PaymentResponse.PartialPaymentSummary(
                 pp.getId(),
@@ -0,0 +1,178 @@
+package com.rentflow.payment.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rentflow.events.PaymentTransitioned;
+import com.rentflow.payment.dto.PaymentStatusEvent;
+import com.rentflow.payment.exception.PaymentNotFoundException;
+import com.rentflow.payment.model.PaymentStatus;
+import com.rentflow.payment.repository.PaymentRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Server-sent status events for one payment or for all of a tenant's payments, so clients stop polling
+// GET /api/v1/payments/{id}. Transitions reach every instance through Kafka, whichever instance made them. Open
+// streams are parked async requests that hold no thread until there is something to write
+@Slf4j
+@Component
+public class PaymentStatusStream {
+
+    // No transition leaves these, so a payment stream ends once it has sent one
+    private static final Set<PaymentStatus> FINAL =
+        EnumSet.of(PaymentStatus.COMPLETED, PaymentStatus.CANCELLED, PaymentStatus.REFUNDED);
+
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    private final PaymentRepository paymentRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration timeout;
+    private final int bufferSize;
+    private final ExecutorService sender;
+    private final Map<UUID, Set<StatusSubscriber>> byPayment = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<StatusSubscriber>> byTenant = new ConcurrentHashMap<>();
+    private final Set<StatusSubscriber> open = ConcurrentHashMap.newKeySet();
+
+    public PaymentStatusStream(
+        PaymentRepository paymentRepository,
+        ObjectMapper objectMapper,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry,
+        @Value("${payments.stream.timeout:30m}") Duration timeout,
+        @Value("${payments.stream.buffer-size:16}") int bufferSize,
+        @Value("${payments.stream.send-threads:8}") int sendThreads,
+        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.paymentRepository = paymentRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.timeout = timeout;
+        this.bufferSize = bufferSize;
+        this.sender = virtualThreads
+            ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("status-stream-", 0).factory())
+            : Executors.newFixedThreadPool(sendThreads, Thread.ofPlatform().name("status-stream-", 0).factory());
+        Gauge.builder("rentflow.payment.streams", open, Set::size)
+            .description("Open payment status streams")
+            .register(meterRegistry);
+    }
+
+    public SseEmitter subscribePayment(UUID paymentId) {
+        // Registered before the current status is read, so no transition falls between the two
+        var subscriber = register(byPayment, paymentId);
+        try {
+            // A read-write transaction goes to the primary: a lagging replica could return a status older than
+            // the transitions already queued behind it
+            var payment = transactionTemplate.execute(status -> paymentRepository.findById(paymentId))
+                .orElseThrow(() -> new PaymentNotFoundException(paymentId));
+            var current = new PaymentStatusEvent(payment.getId(), payment.getTenantId(), null, payment.getStatus(),
+                null, payment.getStatusChangedAt());
+            subscriber.start(event(current), FINAL.contains(payment.getStatus()));
+        } catch (RuntimeException e) {
+            unregister(byPayment, paymentId, subscriber);
+            throw e;
+        }
+        return subscriber.emitter();
+    }
+
+    public SseEmitter subscribeTenant(UUID tenantId) {
+        var subscriber = register(byTenant, tenantId);
+        // Sends the response headers at once, so the client sees the stream open before the first transition
+        subscriber.start(SseEmitter.event().comment("subscribed").build(), false);
+        return subscriber.emitter();
+    }
+
+    // Every instance reads every transition under a group of its own, from the latest offset and without
+    // committing: a stream only carries what happens while it is open
+    @KafkaListener(
+        topics = "${kafka.topics.payment-transitioned:payment-transitioned}",
+        groupId = "payment-status-stream-#{T(java.util.UUID).randomUUID()}",
+        properties = "auto.offset.reset=latest"
+    )
+    public void onTransitioned(PaymentTransitioned transition) {
+        var payments = byPayment.get(transition.paymentId());
+        var tenants = byTenant.get(transition.tenantId());
+        if (payments == null && tenants == null) {
+            return;
+        }
+        var status = PaymentStatus.valueOf(transition.newStatus());
+        var data = event(new PaymentStatusEvent(
+            transition.paymentId(),
+            transition.tenantId(),
+            transition.oldStatus() != null ? PaymentStatus.valueOf(transition.oldStatus()) : null,
+            status,
+            transition.reason(),
+            transition.timestamp()
+        ));
+        if (payments != null) {
+            payments.forEach(subscriber -> subscriber.offer(data, FINAL.contains(status)));
+        }
+        if (tenants != null) {
+            tenants.forEach(subscriber -> subscriber.offer(data, false));
+        }
+    }
+
+    // Keeps idle streams open through proxies, and finds the clients that went away without closing
+    @Scheduled(fixedDelayString = "${payments.stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        open.forEach(subscriber -> subscriber.offer(HEARTBEAT, false));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // Clients reconnect to another instance
+        open.forEach(StatusSubscriber::close);
+        sender.shutdown();
+    }
+
+    private StatusSubscriber register(Map<UUID, Set<StatusSubscriber>> index, UUID key) {
+        var subscriber = new StatusSubscriber(new SseEmitter(timeout.toMillis()), bufferSize, sender);
+        index.compute(key, (k, subscribers) -> {
+            var set = subscribers != null ? subscribers : ConcurrentHashMap.<StatusSubscriber>newKeySet();
+            set.add(subscriber);
+            return set;
+        });
+        open.add(subscriber);
+        Runnable unregister = () -> unregister(index, key, subscriber);
+        subscriber.emitter().onCompletion(unregister);
+        subscriber.emitter().onTimeout(unregister);
+        subscriber.emitter().onError(e -> unregister.run());
+        return subscriber;
+    }
+
+    private void unregister(Map<UUID, Set<StatusSubscriber>> index, UUID key, StatusSubscriber subscriber) {
+        open.remove(subscriber);
+        index.computeIfPresent(key, (k, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    // Serialized once per transition and shared by every stream it goes to
+    private Set<DataWithMediaType> event(PaymentStatusEvent event) {
+        try {
+            return SseEmitter.event().name("status").data(objectMapper.writeValueAsString(event)).build();
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
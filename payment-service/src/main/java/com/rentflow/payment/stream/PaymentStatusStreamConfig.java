@@ -0,0 +1,27 @@
+package com.rentflow.payment.stream;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PaymentStatusStreamConfig {
+
+    // A stream's request lasts until payments.stream.timeout, so its p99 is in minutes. Without percentiles on the
+    // stream endpoints, the JFR latency trigger only sees ordinary requests. Runs after Boot's property filter
+    @Bean
+    public MeterFilter statusStreamPercentiles() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                var uri = id.getTag("uri");
+                if (!"http.server.requests".equals(id.getName()) || uri == null || !uri.endsWith("/events")) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder().percentiles().build().merge(config);
+            }
+        };
+    }
+}
@@ -0,0 +1,92 @@
+package com.rentflow.payment.stream;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// One open stream. Events wait in a small buffer and are written by one sender task at a time, so the Kafka
+// listener and the heartbeat never block on a slow client's socket
+final class StatusSubscriber {
+
+    private record Message(Set<DataWithMediaType> data, boolean last) {}
+
+    private final SseEmitter emitter;
+    private final BlockingDeque<Message> buffer;
+    private final Executor sender;
+    // Starts set, so nothing is written until start(): a payment stream puts its current status first
+    private final AtomicBoolean sending = new AtomicBoolean(true);
+    private volatile boolean closed;
+
+    StatusSubscriber(SseEmitter emitter, int bufferSize, Executor sender) {
+        this.emitter = emitter;
+        // One slot over the buffer size for the current status that opens a payment stream
+        this.buffer = new LinkedBlockingDeque<>(bufferSize + 1);
+        this.sender = sender;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    void start(Set<DataWithMediaType> first, boolean last) {
+        if (first != null) {
+            buffer.offerFirst(new Message(first, last));
+        }
+        sending.set(false);
+        schedule();
+    }
+
+    // A client a whole buffer behind is disconnected rather than blocking the senders; EventSource reconnects and
+    // a payment stream starts again from the current status
+    void offer(Set<DataWithMediaType> data, boolean last) {
+        if (closed) {
+            return;
+        }
+        if (!buffer.offer(new Message(data, last))) {
+            close();
+            return;
+        }
+        schedule();
+    }
+
+    void close() {
+        closed = true;
+        buffer.clear();
+        emitter.complete();
+    }
+
+    private void schedule() {
+        if (!buffer.isEmpty() && sending.compareAndSet(false, true)) {
+            sender.execute(this::send);
+        }
+    }
+
+    private void send() {
+        try {
+            Message message;
+            while (!closed && (message = buffer.poll()) != null) {
+                emitter.send(message.data());
+                if (message.last()) {
+                    close();
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            // The client went away or the emitter timed out; its completion callback unregisters it
+            close();
+        } finally {
+            sending.set(false);
+        }
+        // An offer between the last poll and releasing the flag found it still set
+        schedule();
+    }
+}
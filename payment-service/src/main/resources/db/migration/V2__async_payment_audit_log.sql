@@ -0,0 +1,50 @@
+-- Status transitions are now audited by the application in batches (PaymentAuditRecorder)
+DROP TRIGGER IF EXISTS audit_payment_status ON payments;
+DROP FUNCTION IF EXISTS audit_payment_status_change();
+
+-- Move the audit log to a monthly range-partitioned table
+ALTER TABLE payment_audit_log RENAME TO payment_audit_log_legacy;
+ALTER INDEX idx_audit_payment RENAME TO idx_audit_legacy_payment;
+ALTER INDEX idx_audit_created RENAME TO idx_audit_legacy_created;
+
+CREATE TABLE payment_audit_log (
+    id UUID NOT NULL,
+    payment_id UUID NOT NULL,
+    old_status VARCHAR(20),
+    new_status VARCHAR(20) NOT NULL,
+    changed_by VARCHAR(100),
+    change_reason VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE INDEX idx_audit_payment ON payment_audit_log(payment_id, created_at);
+
+CREATE TABLE payment_audit_log_default PARTITION OF payment_audit_log DEFAULT;
+
+-- Monthly partitions covering existing history plus the next three months
+DO $$
+DECLARE
+    month_start DATE;
+    last_month DATE := date_trunc('month', CURRENT_DATE + INTERVAL '3 months')::DATE;
+BEGIN
+    SELECT COALESCE(date_trunc('month', MIN(created_at))::DATE, date_trunc('month', CURRENT_DATE)::DATE)
+    INTO month_start
+    FROM payment_audit_log_legacy;
+
+    WHILE month_start <= last_month LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF payment_audit_log FOR VALUES FROM (%L) TO (%L)',
+            'payment_audit_log_' || to_char(month_start, 'YYYY_MM'),
+            month_start,
+            (month_start + INTERVAL '1 month')::DATE
+        );
+        month_start := (month_start + INTERVAL '1 month')::DATE;
+    END LOOP;
+END $$;
+
+INSERT INTO payment_audit_log (id, payment_id, old_status, new_status, changed_by, change_reason, created_at)
+SELECT id, payment_id, old_status, new_status, changed_by, change_reason, created_at
+FROM payment_audit_log_legacy;
+
+DROP TABLE payment_audit_log_legacy;
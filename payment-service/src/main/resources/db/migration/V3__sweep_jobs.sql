@@ -0,0 +1,20 @@
+-- Scheduled-payment and retry sweeps submitted through the API; progress is written by the instance running them
+CREATE TABLE sweep_jobs (
+    id UUID PRIMARY KEY,
+    kind VARCHAR(20) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    owner VARCHAR(200) NOT NULL,
+    total INTEGER,
+    processed INTEGER NOT NULL DEFAULT 0,
+    succeeded INTEGER NOT NULL DEFAULT 0,
+    failed INTEGER NOT NULL DEFAULT 0,
+    cancel_requested BOOLEAN NOT NULL DEFAULT FALSE,
+    error VARCHAR(500),
+    submitted_at TIMESTAMP NOT NULL,
+    heartbeat_at TIMESTAMP NOT NULL,
+    finished_at TIMESTAMP
+);
+
+-- At most one running sweep of each kind across all instances
+CREATE UNIQUE INDEX uq_sweep_jobs_running ON sweep_jobs(kind) WHERE status = 'RUNNING';
+CREATE INDEX idx_sweep_jobs_submitted ON sweep_jobs(submitted_at);
@@ -0,0 +1,2 @@
+-- Partial payments are looked up by parent for every payment response and ETag; only partials have a parent
+CREATE INDEX idx_payments_parent ON payments(parent_payment_id) WHERE parent_payment_id IS NOT NULL;
@@ -0,0 +1,7 @@
+-- When the payment entered its current status. updated_at moves on every write, including retry bookkeeping,
+-- so it cannot tell how long a payment has been in a status. Existing rows start from their last update
+ALTER TABLE payments ADD COLUMN status_changed_at TIMESTAMP;
+UPDATE payments SET status_changed_at = updated_at;
+ALTER TABLE payments
+    ALTER COLUMN status_changed_at SET DEFAULT CURRENT_TIMESTAMP,
+    ALTER COLUMN status_changed_at SET NOT NULL;
@@ -0,0 +1,10 @@
+-- Audit rows are written by the same statement as the status transition, and payment-transitioned is relayed from
+-- them (PaymentTransitionRelay). published_at is set once a row's event is acknowledged by Kafka.
+-- Rows already in the log came from the topic, so they start out published: the constant default fills them
+-- without rewriting the table, and is dropped again for new rows
+ALTER TABLE payment_audit_log ADD COLUMN published_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE payment_audit_log
+    ALTER COLUMN published_at DROP DEFAULT,
+    ALTER COLUMN published_at DROP NOT NULL;
+
+CREATE INDEX idx_audit_unpublished ON payment_audit_log(created_at) WHERE published_at IS NULL;
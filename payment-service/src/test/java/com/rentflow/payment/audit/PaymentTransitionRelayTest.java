@@ -0,0 +1,159 @@
+package com.rentflow.payment.audit;
+
+import com.rentflow.events.PaymentTransitioned;
+import com.rentflow.payment.model.Payment;
+import com.rentflow.payment.model.PaymentMethod;
+import com.rentflow.payment.model.PaymentStatus;
+import com.rentflow.payment.model.PaymentType;
+import com.rentflow.payment.repository.PaymentRepository;
+import com.rentflow.persistence.PersistenceAutoConfiguration;
+import com.rentflow.persistence.test.PostgresContainerTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Transitions commit for real, so the audit row is checked as another transaction sees it. Kafka is a mock whose
+// sends can be made to fail, standing in for a broker outage
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(PersistenceAutoConfiguration.class)
+@Import(PaymentTransitionRelay.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PaymentTransitionRelayTest extends PostgresContainerTest {
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private PaymentTransitionRelay relay;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private KafkaTemplate<UUID, Object> kafkaTemplate;
+
+    @BeforeEach
+    void relayOnlyThisTestsRows() {
+        // Rows left by other tests in the same database are not this test's to send
+        jdbcTemplate.update("UPDATE payment_audit_log SET published_at = now() WHERE published_at IS NULL");
+    }
+
+    @Test
+    void transitionWritesItsAuditRowInTheSameStatement() {
+        var payment = paymentRepository.save(newPayment());
+
+        paymentRepository.startProcessing(payment.getId()).orElseThrow();
+        // Not allowed from PROCESSING, so nothing is updated and nothing is audited
+        assertThat(paymentRepository.startProcessing(payment.getId())).isEmpty();
+
+        var rows = auditRows(payment.getId());
+        assertThat(rows).hasSize(1);
+        var row = rows.get(0);
+        assertThat(row.get("old_status")).isEqualTo("PENDING");
+        assertThat(row.get("new_status")).isEqualTo("PROCESSING");
+        assertThat(row.get("changed_by")).isEqualTo("payment-service");
+        assertThat(row.get("published_at")).isNull();
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT status_changed_at FROM payments WHERE id = ?", Object.class, payment.getId()))
+            .isEqualTo(row.get("created_at"));
+    }
+
+    @Test
+    void rolledBackTransitionLeavesNoAuditRow() {
+        var payment = paymentRepository.save(newPayment());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            assertThat(paymentRepository.cancel(payment.getId(), "Cancelled by request")).isPresent();
+            status.setRollbackOnly();
+        });
+
+        assertThat(auditRows(payment.getId())).isEmpty();
+        assertThat(paymentRepository.findById(payment.getId()).orElseThrow().getStatus())
+            .isEqualTo(PaymentStatus.PENDING);
+    }
+
+    @Test
+    void relaySendsAgainOnlyWhatKafkaDidNotAcknowledge() {
+        var payment = paymentRepository.save(newPayment());
+        paymentRepository.startProcessing(payment.getId()).orElseThrow();
+        paymentRepository.complete(payment.getId(), new BigDecimal("1500.00"), "txn-1").orElseThrow();
+
+        // The first send of the completion fails, as during a broker outage
+        var failed = new AtomicBoolean();
+        when(kafkaTemplate.send(anyString(), any(UUID.class), any())).thenAnswer(invocation -> {
+            var event = (PaymentTransitioned) invocation.getArgument(2);
+            if (event.newStatus().equals("COMPLETED") && failed.compareAndSet(false, true)) {
+                return CompletableFuture.failedFuture(new IllegalStateException("Broker unavailable"));
+            }
+            return CompletableFuture.completedFuture(null);
+        });
+
+        relay.relay();
+        assertThat(publishedStatuses(payment.getId())).containsExactly(true, false);
+
+        relay.relay();
+        relay.relay();
+
+        // Three sends, one of them a repeat, for two audit rows that are now both published
+        var sent = ArgumentCaptor.forClass(Object.class);
+        verify(kafkaTemplate, atLeastOnce()).send(anyString(), any(UUID.class), sent.capture());
+        var statuses = sent.getAllValues().stream()
+            .map(PaymentTransitioned.class::cast)
+            .filter(event -> event.paymentId().equals(payment.getId()))
+            .map(PaymentTransitioned::newStatus)
+            .toList();
+        assertThat(statuses).containsExactly("PROCESSING", "COMPLETED", "COMPLETED");
+        assertThat(auditRows(payment.getId())).hasSize(2);
+        assertThat(publishedStatuses(payment.getId())).containsExactly(true, true);
+    }
+
+    private List<Map<String, Object>> auditRows(UUID paymentId) {
+        return jdbcTemplate.queryForList(
+            "SELECT * FROM payment_audit_log WHERE payment_id = ? ORDER BY created_at", paymentId);
+    }
+
+    private List<Boolean> publishedStatuses(UUID paymentId) {
+        return auditRows(paymentId).stream().map(row -> row.get("published_at") != null).toList();
+    }
+
+    private static Payment newPayment() {
+        return Payment.builder()
+            .tenantId(UUID.randomUUID())
+            .propertyId(UUID.randomUUID())
+            .leaseId(UUID.randomUUID())
+            .amount(new BigDecimal("1500.00"))
+            .paymentType(PaymentType.RECURRING)
+            .paymentMethod(PaymentMethod.ACH)
+            .build();
+    }
+}
@@ -0,0 +1,168 @@
+package com.rentflow.payment.repository;
+
+import com.rentflow.payment.model.Payment;
+import com.rentflow.payment.model.PaymentMethod;
+import com.rentflow.payment.model.PaymentStatus;
+import com.rentflow.payment.model.PaymentType;
+import com.rentflow.payment.model.StatusTransition;
+import com.rentflow.persistence.PersistenceAutoConfiguration;
+import com.rentflow.persistence.test.PostgresContainerTest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.RepeatedTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Races opposing transitions on one payment from many threads. Each call runs in its own transaction, as it does
+// from PaymentService, so the conditional UPDATE is the only thing keeping two callers from both winning
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(PersistenceAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PaymentTransitionConcurrencyTest extends PostgresContainerTest {
+
+    private static final int THREADS = 16;
+
+    private static ExecutorService executor;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void startExecutor() {
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterAll
+    static void stopExecutor() {
+        executor.shutdownNow();
+    }
+
+    @RepeatedTest(20)
+    void startProcessingAndCancelHaveExactlyOneWinner() throws Exception {
+        var payment = paymentRepository.save(newPayment());
+        var pendingSince = paymentRepository.findById(payment.getId()).orElseThrow().getStatusChangedAt();
+
+        var results = race(
+            id -> paymentRepository.startProcessing(id),
+            id -> paymentRepository.cancel(id, "Cancelled by request"),
+            payment.getId());
+
+        assertThat(results).hasSize(THREADS);
+        var winners = results.stream().flatMap(Optional::stream).toList();
+        assertThat(winners).hasSize(1);
+        var winner = winners.get(0);
+        assertThat(winner.previousStatus()).isEqualTo(PaymentStatus.PENDING);
+        assertThat(winner.previousStatusSince()).isEqualTo(pendingSince);
+        assertThat(winner.payment().getStatus()).isIn(PaymentStatus.PROCESSING, PaymentStatus.CANCELLED);
+
+        var stored = paymentRepository.findById(payment.getId()).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(winner.payment().getStatus());
+        assertThat(stored.getVersion()).isEqualTo(1);
+        assertThat(stored.getStatusChangedAt()).isEqualTo(winner.payment().getStatusChangedAt());
+        assertThat(stored.getStatusChangedAt()).isAfterOrEqualTo(pendingSince);
+        // Losers write no audit row: it is inserted by the winning UPDATE's own statement
+        assertThat(auditRows(payment.getId())).isEqualTo(1);
+    }
+
+    @RepeatedTest(20)
+    void completeAndFailHaveExactlyOneWinner() throws Exception {
+        var payment = paymentRepository.save(newPayment());
+        var processing = paymentRepository.startProcessing(payment.getId()).orElseThrow().payment();
+
+        var results = race(
+            id -> paymentRepository.complete(id, new BigDecimal("1500.00"), "txn-" + id),
+            id -> paymentRepository.fail(id, "Declined by partner"),
+            payment.getId());
+
+        var winners = results.stream().flatMap(Optional::stream).toList();
+        assertThat(winners).hasSize(1);
+        var winner = winners.get(0);
+        assertThat(winner.previousStatus()).isEqualTo(PaymentStatus.PROCESSING);
+        assertThat(winner.previousStatusSince()).isEqualTo(processing.getStatusChangedAt());
+
+        // Only the winner's columns are written: a completed row carries no failure, a failed one no settlement
+        var stored = paymentRepository.findById(payment.getId()).orElseThrow();
+        assertThat(stored.getVersion()).isEqualTo(2);
+        assertThat(auditRows(payment.getId())).isEqualTo(2);
+        if (winner.payment().getStatus() == PaymentStatus.COMPLETED) {
+            assertThat(stored.getStatus()).isEqualTo(PaymentStatus.COMPLETED);
+            assertThat(stored.getSettledAmount()).isEqualByComparingTo("1500.00");
+            assertThat(stored.getTransactionId()).isEqualTo("txn-" + payment.getId());
+            assertThat(stored.getCompletedAt()).isNotNull();
+            assertThat(stored.getFailureReason()).isNull();
+            assertThat(stored.getRetryCount()).isZero();
+            assertThat(stored.getRetryAfter()).isNull();
+        } else {
+            assertThat(stored.getStatus()).isEqualTo(PaymentStatus.FAILED);
+            assertThat(stored.getFailureReason()).isEqualTo("Declined by partner");
+            assertThat(stored.getRetryCount()).isEqualTo(1);
+            assertThat(stored.getRetryAfter()).isNotNull();
+            assertThat(stored.getSettledAmount()).isNull();
+            assertThat(stored.getTransactionId()).isNull();
+            assertThat(stored.getCompletedAt()).isNull();
+        }
+    }
+
+    // Half the threads run each transition; all of them are released at once
+    private List<Optional<StatusTransition>> race(Function<UUID, Optional<StatusTransition>> first,
+                                                  Function<UUID, Optional<StatusTransition>> second,
+                                                  UUID paymentId) throws Exception {
+        var ready = new CountDownLatch(THREADS);
+        var start = new CountDownLatch(1);
+        var futures = new ArrayList<Future<Optional<StatusTransition>>>();
+        for (int i = 0; i < THREADS; i++) {
+            var transition = i % 2 == 0 ? first : second;
+            futures.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                return transition.apply(paymentId);
+            }));
+        }
+        ready.await();
+        start.countDown();
+
+        var results = new ArrayList<Optional<StatusTransition>>();
+        for (var future : futures) {
+            results.add(future.get());
+        }
+        return results;
+    }
+
+    private int auditRows(UUID paymentId) {
+        return jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM payment_audit_log WHERE payment_id = ?", Integer.class, paymentId);
+    }
+
+    private static Payment newPayment() {
+        return Payment.builder()
+            .tenantId(UUID.randomUUID())
+            .propertyId(UUID.randomUUID())
+            .leaseId(UUID.randomUUID())
+            .amount(new BigDecimal("1500.00"))
+            .paymentType(PaymentType.RECURRING)
+            .paymentMethod(PaymentMethod.ACH)
+            .build();
+    }
+}
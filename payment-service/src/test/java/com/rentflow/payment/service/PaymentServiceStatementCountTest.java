@@ -0,0 +1,92 @@
+package com.rentflow.payment.service;
+
+import com.rentflow.payment.dto.CreatePaymentRequest;
+import com.rentflow.payment.kafka.PaymentEventPublisher;
+import com.rentflow.payment.model.PaymentMethod;
+import com.rentflow.payment.model.PaymentType;
+import com.rentflow.persistence.PersistenceAutoConfiguration;
+import com.rentflow.persistence.test.PostgresContainerTest;
+import com.rentflow.persistence.test.StatementCountingConfiguration;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// createPayment commits for real, so the insert is flushed and counted; a merge would show up as an extra SELECT
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(PersistenceAutoConfiguration.class)
+@Import({PaymentService.class, StatementCountingConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PaymentServiceStatementCountTest extends PostgresContainerTest {
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @MockBean
+    private PaymentEventPublisher eventPublisher;
+
+    @MockBean
+    private PartnerGatewayClient partnerGatewayClient;
+
+    @MockBean
+    private LedgerServiceClient ledgerServiceClient;
+
+    @Test
+    void createPaymentInsertsWithoutReadingTheRowFirst() {
+        QueryCountHolder.clear();
+
+        paymentService.createPayment(request(null));
+
+        // One INSERT, plus the partial-payment lookup for the response
+        var count = QueryCountHolder.getGrandTotal();
+        assertThat(count.getInsert()).isEqualTo(1);
+        assertThat(count.getSelect()).isEqualTo(1);
+        assertThat(count.getUpdate()).isZero();
+        assertThat(count.getDelete()).isZero();
+    }
+
+    @Test
+    void createPaymentWithIdempotencyKeyAddsOnlyTheKeyLookup() {
+        QueryCountHolder.clear();
+
+        paymentService.createPayment(request(UUID.randomUUID()));
+
+        var count = QueryCountHolder.getGrandTotal();
+        assertThat(count.getInsert()).isEqualTo(1);
+        assertThat(count.getSelect()).isEqualTo(2);
+        assertThat(count.getUpdate()).isZero();
+    }
+
+    @Test
+    void repeatedIdempotencyKeyReadsWithoutWriting() {
+        var idempotencyKey = UUID.randomUUID();
+        paymentService.createPayment(request(idempotencyKey));
+        QueryCountHolder.clear();
+
+        paymentService.createPayment(request(idempotencyKey));
+
+        var count = QueryCountHolder.getGrandTotal();
+        assertThat(count.getInsert()).isZero();
+        assertThat(count.getSelect()).isEqualTo(2);
+        assertThat(count.getUpdate()).isZero();
+    }
+
+    private static CreatePaymentRequest request(UUID idempotencyKey) {
+        return new CreatePaymentRequest(
+            UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+            new BigDecimal("1500.00"), "USD", PaymentType.RECURRING, PaymentMethod.ACH,
+            null, null, null, null, "Rent", false, null, idempotencyKey);
+    }
+}
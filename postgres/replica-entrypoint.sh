@@ -0,0 +1,14 @@
+#!/bin/sh
+# Streaming replica of postgres-payment: cloned with pg_basebackup on first start, then replays the primary's WAL
+set -e
+
+until pg_isready -h postgres-payment -U rentflow; do
+  sleep 1
+done
+
+if [ -z "$(ls -A "$PGDATA")" ]; then
+  PGPASSWORD=rentflow_password pg_basebackup -h postgres-payment -U rentflow -D "$PGDATA" -R -X stream -c fast
+  chmod 700 "$PGDATA"
+fi
+
+exec postgres
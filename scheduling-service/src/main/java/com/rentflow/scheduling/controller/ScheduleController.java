@@ -1,16 +1,22 @@
 package com.rentflow.scheduling.controller;
 
+import com.rentflow.scheduling.dto.BulkScheduleRequest;
 import com.rentflow.scheduling.dto.CreateScheduleRequest;
 import com.rentflow.scheduling.dto.ScheduleResponse;
+import com.rentflow.scheduling.service.ScheduleBatchService;
 import com.rentflow.scheduling.service.SchedulingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -22,6 +28,7 @@ import java.util.UUID;
 public class ScheduleController {
 
     private final SchedulingService schedulingService;
+    private final ScheduleBatchService scheduleBatchService;
 
     @PostMapping
     @Operation(summary = "Create a new payment schedule")
@@ -29,21 +36,42 @@ public class ScheduleController {
         return ResponseEntity.status(HttpStatus.CREATED).body(schedulingService.createSchedule(request));
     }
 
+    @PostMapping(
+        value = "/batch",
+        consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE},
+        produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    @Operation(summary = "Create schedules from an NDJSON stream or JSON array, streaming one result per row")
+    public ResponseEntity<StreamingResponseBody> createSchedules(InputStream body) {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(out -> scheduleBatchService.importSchedules(body, out));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get schedule by ID")
-    public ResponseEntity<ScheduleResponse> getSchedule(@PathVariable UUID id) {
+    public ResponseEntity<ScheduleResponse> getSchedule(@PathVariable UUID id, WebRequest request) {
+        if (request.checkNotModified(schedulingService.getScheduleTag(id))) {
+            return null;
+        }
         return ResponseEntity.ok(schedulingService.getSchedule(id));
     }
 
     @GetMapping("/tenant/{tenantId}")
     @Operation(summary = "Get schedules by tenant")
-    public ResponseEntity<List<ScheduleResponse>> getSchedulesByTenant(@PathVariable UUID tenantId) {
+    public ResponseEntity<List<ScheduleResponse>> getSchedulesByTenant(@PathVariable UUID tenantId, WebRequest request) {
+        if (request.checkNotModified(schedulingService.getTenantSchedulesTag(tenantId))) {
+            return null;
+        }
         return ResponseEntity.ok(schedulingService.getSchedulesByTenant(tenantId));
     }
 
     @GetMapping("/lease/{leaseId}")
     @Operation(summary = "Get schedules by lease")
-    public ResponseEntity<List<ScheduleResponse>> getSchedulesByLease(@PathVariable UUID leaseId) {
+    public ResponseEntity<List<ScheduleResponse>> getSchedulesByLease(@PathVariable UUID leaseId, WebRequest request) {
+        if (request.checkNotModified(schedulingService.getLeaseSchedulesTag(leaseId))) {
+            return null;
+        }
         return ResponseEntity.ok(schedulingService.getSchedulesByLease(leaseId));
     }
 
@@ -62,6 +90,18 @@ public class ScheduleController {
         return ResponseEntity.ok(schedulingService.resumeSchedule(id));
     }
 
+    @PostMapping("/pause")
+    @Operation(summary = "Pause every active schedule matching a tenant, property or lease")
+    public ResponseEntity<Map<String, Object>> pauseSchedules(@Valid @RequestBody BulkScheduleRequest request) {
+        return ResponseEntity.ok(Map.of("paused", scheduleBatchService.pauseSchedules(request)));
+    }
+
+    @PostMapping("/resume")
+    @Operation(summary = "Resume every paused schedule matching a tenant, property or lease")
+    public ResponseEntity<Map<String, Object>> resumeSchedules(@Valid @RequestBody BulkScheduleRequest request) {
+        return ResponseEntity.ok(Map.of("resumed", scheduleBatchService.resumeSchedules(request)));
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete a payment schedule")
     public ResponseEntity<Void> deleteSchedule(@PathVariable UUID id) {
@@ -0,0 +1,21 @@
+package com.rentflow.scheduling.dto;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Size;
+
+import java.util.UUID;
+
+// Selects every schedule matching all the given ids; reason is only used when pausing
+public record BulkScheduleRequest(
+    UUID tenantId,
+    UUID propertyId,
+    UUID leaseId,
+
+    @Size(max = 500)
+    String reason
+) {
+    @AssertTrue(message = "At least one of tenantId, propertyId or leaseId is required")
+    public boolean isFiltered() {
+        return tenantId != null || propertyId != null || leaseId != null;
+    }
+}
@@ -1,17 +1,22 @@
 package com.rentflow.scheduling.kafka;
 
-import com.rentflow.scheduling.events.PaymentCreated;
-import com.rentflow.scheduling.events.PaymentScheduled;
+import com.rentflow.events.PartitionKey;
+import com.rentflow.events.PaymentCreated;
+import com.rentflow.events.PaymentScheduled;
 import com.rentflow.scheduling.model.PaymentSchedule;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 @Slf4j
 @Component
@@ -20,26 +25,69 @@ public class ScheduleEventPublisher {
 
     private final KafkaTemplate<UUID, Object> kafkaTemplate;
 
+    @Value("${kafka.partition-key:LEASE}")
+    private PartitionKey partitionKey;
+
     @Value("${kafka.topics.payment-created:payment-created}")
     private String paymentCreatedTopic;
 
     @Value("${kafka.topics.payment-scheduled:payment-scheduled}")
     private String paymentScheduledTopic;
 
-    public void publishPaymentCreated(PaymentCreated event, UUID scheduleId) {
-        publish(paymentCreatedTopic, scheduleId, event);
+    public void publishPaymentCreated(PaymentCreated event) {
+        publish(paymentCreatedTopic, partitionKey.select(event.leaseId(), event.tenantId()), event);
+    }
+
+    public void publishPaymentsCreated(List<PaymentCreated> events) {
+        publishAll(paymentCreatedTopic, events, event -> partitionKey.select(event.leaseId(), event.tenantId()),
+            event -> event);
     }
 
     public void publishScheduleCreated(PaymentSchedule schedule) {
-        var event = new PaymentScheduled(
+        publish(paymentScheduledTopic, key(schedule), paymentScheduled(schedule));
+    }
+
+    public void publishSchedulesCreated(List<PaymentSchedule> schedules) {
+        publishAll(paymentScheduledTopic, schedules, this::key, this::paymentScheduled);
+    }
+
+    private PaymentScheduled paymentScheduled(PaymentSchedule schedule) {
+        return new PaymentScheduled(
             schedule.getId(),
             schedule.getId(),
             schedule.getRecurrencePattern().name(),
             schedule.getNextExecutionTime(),
             Instant.now(),
-            1
+            PaymentScheduled.CURRENT_VERSION
         );
-        publish(paymentScheduledTopic, schedule.getId(), event);
+    }
+
+    private UUID key(PaymentSchedule schedule) {
+        return partitionKey.select(schedule.getLeaseId(), schedule.getTenantId());
+    }
+
+    // One flush for the whole list, so the producer sends the events in as few requests as batch.size allows. The
+    // list gets one completion callback and one log line; failures are still logged per event
+    private <T> void publishAll(String topic, List<T> items, Function<T, UUID> key, Function<T, Object> event) {
+        var sends = new ArrayList<CompletableFuture<SendResult<UUID, Object>>>(items.size());
+        for (var item : items) {
+            try {
+                sends.add(kafkaTemplate.send(topic, key.apply(item), event.apply(item)));
+            } catch (Exception e) {
+                sends.add(CompletableFuture.failedFuture(e));
+            }
+        }
+        kafkaTemplate.flush();
+        CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).whenComplete((result, ex) -> {
+            var failed = 0;
+            for (var send : sends) {
+                if (send.isCompletedExceptionally()) {
+                    failed++;
+                    log.error("Failed to publish to {}: {}", topic, send.exceptionNow().getMessage());
+                }
+            }
+            log.info("Published {} of {} events to {}", sends.size() - failed, sends.size(), topic);
+        });
     }
 
     private void publish(String topic, UUID key, Object event) {
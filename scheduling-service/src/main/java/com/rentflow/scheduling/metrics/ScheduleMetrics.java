@@ -0,0 +1,33 @@
+package com.rentflow.scheduling.metrics;
+
+import com.rentflow.scheduling.model.PaymentSchedule;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Component
+@RequiredArgsConstructor
+public class ScheduleMetrics {
+
+    static final String FIRING_LAG = "rentflow.schedule.firing.lag";
+
+    private final MeterRegistry meterRegistry;
+
+    // Actual fire time minus the due time; must be called before the schedule advances nextExecutionTime
+    public void recordFiringLag(PaymentSchedule schedule, Instant firedAt) {
+        if (schedule.getNextExecutionTime() == null) {
+            return;
+        }
+        var lag = Duration.between(schedule.getNextExecutionTime(), firedAt);
+        Timer.builder(FIRING_LAG)
+            .description("Delay between a schedule's due time and its execution")
+            .tag("method", schedule.getPaymentMethod() != null ? schedule.getPaymentMethod().name() : "UNKNOWN")
+            .tag("pattern", schedule.getRecurrencePattern() != null ? schedule.getRecurrencePattern().name() : "UNKNOWN")
+            .register(meterRegistry)
+            .record(lag.isNegative() ? Duration.ZERO : lag);
+    }
+}
@@ -1,6 +1,8 @@
 package com.rentflow.scheduling.model;
 
+import com.rentflow.persistence.PersistableEntity;
 import com.rentflow.scheduling.model.PaymentMethod;
+import com.rentflow.persistence.GeneratedUuidV7;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
@@ -16,6 +18,7 @@ import java.util.UUID;
 @Table(name = "payment_schedules", indexes = {
     @Index(name = "idx_schedule_tenant", columnList = "tenant_id"),
     @Index(name = "idx_schedule_lease", columnList = "lease_id"),
+    @Index(name = "idx_schedule_property", columnList = "property_id"),
     @Index(name = "idx_schedule_active", columnList = "active")
 })
 @EntityListeners(AuditingEntityListener.class)
@@ -24,10 +27,10 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class PaymentSchedule {
+public class PaymentSchedule extends PersistableEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     private UUID id;
 
     @Column(nullable = false)
@@ -88,10 +91,12 @@ public class PaymentSchedule {
     private Integer totalOccurrences;
 
     @Column
-    private Integer completedOccurrences;
+    @Builder.Default
+    private Integer completedOccurrences = 0;
 
     @Column
-    private Integer failedOccurrences;
+    @Builder.Default
+    private Integer failedOccurrences = 0;
 
     @Column
     private Instant nextExecutionTime;
@@ -13,7 +13,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface PaymentScheduleRepository extends JpaRepository<PaymentSchedule, UUID> {
+public interface PaymentScheduleRepository extends JpaRepository<PaymentSchedule, UUID>, PaymentScheduleRepositoryCustom {
 
     List<PaymentSchedule> findByTenantIdOrderByCreatedAtDesc(UUID tenantId);
 
@@ -38,4 +38,20 @@ public interface PaymentScheduleRepository extends JpaRepository<PaymentSchedule
     long countActiveByLeaseId(UUID leaseId);
 
     List<PaymentSchedule> findByActiveTrue();
+
+    // ETag values. The list digests cover every id and version, so a deleted or replaced schedule changes them too
+    @Query("SELECT s.version FROM PaymentSchedule s WHERE s.id = :id")
+    Optional<Integer> findVersionById(@Param("id") UUID id);
+
+    @Query(value = """
+        SELECT md5(coalesce(string_agg(id || ':' || version, ',' ORDER BY id), ''))
+        FROM payment_schedules WHERE tenant_id = :tenantId
+        """, nativeQuery = true)
+    String findTenantTag(@Param("tenantId") UUID tenantId);
+
+    @Query(value = """
+        SELECT md5(coalesce(string_agg(id || ':' || version, ',' ORDER BY id), ''))
+        FROM payment_schedules WHERE lease_id = :leaseId
+        """, nativeQuery = true)
+    String findLeaseTag(@Param("leaseId") UUID leaseId);
 }
@@ -0,0 +1,20 @@
+package com.rentflow.scheduling.repository;
+
+import com.rentflow.scheduling.model.PaymentSchedule;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+// Filters are ANDed; a null filter matches every schedule
+public interface PaymentScheduleRepositoryCustom {
+
+    int pauseMatching(UUID tenantId, UUID propertyId, UUID leaseId, String reason, Instant pausedAt);
+
+    // Paused schedules in id order after the given id (null for the first chunk)
+    List<PaymentSchedule> findPausedMatching(UUID tenantId, UUID propertyId, UUID leaseId, UUID after, int limit);
+
+    // Due schedules in id order after the given id, locked for the caller's transaction. Rows another transaction
+    // has locked are skipped, so concurrent callers each get different schedules
+    List<PaymentSchedule> claimDue(Instant now, UUID after, int limit);
+}
@@ -0,0 +1,96 @@
+package com.rentflow.scheduling.repository;
+
+import com.rentflow.scheduling.model.PaymentSchedule;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.LockMode;
+import org.hibernate.query.SelectionQuery;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class PaymentScheduleRepositoryImpl implements PaymentScheduleRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // A bulk UPDATE skips the entity listeners, so it maintains updatedAt and version itself
+    @Override
+    public int pauseMatching(UUID tenantId, UUID propertyId, UUID leaseId, String reason, Instant pausedAt) {
+        var filters = filters(tenantId, propertyId, leaseId);
+        var query = entityManager.createQuery("""
+            UPDATE PaymentSchedule s
+            SET s.active = false, s.pausedAt = :pausedAt, s.pauseReason = :reason,
+                s.updatedAt = :pausedAt, s.version = s.version + 1
+            WHERE s.active = true%s
+            """.formatted(where(filters)))
+            .setParameter("pausedAt", pausedAt)
+            .setParameter("reason", reason);
+        bind(query, filters);
+        return query.executeUpdate();
+    }
+
+    // Paused ones only: inactive schedules without pausedAt have ended, and resuming them would restart them
+    @Override
+    public List<PaymentSchedule> findPausedMatching(UUID tenantId, UUID propertyId, UUID leaseId, UUID after, int limit) {
+        var filters = filters(tenantId, propertyId, leaseId);
+        if (after != null) {
+            filters.put("s.id > :after", after);
+        }
+        var query = entityManager.createQuery("""
+            SELECT s FROM PaymentSchedule s
+            WHERE s.active = false AND s.pausedAt IS NOT NULL%s
+            ORDER BY s.id
+            """.formatted(where(filters)), PaymentSchedule.class)
+            .setMaxResults(limit);
+        bind(query, filters);
+        return query.getResultList();
+    }
+
+    @Override
+    public List<PaymentSchedule> claimDue(Instant now, UUID after, int limit) {
+        var filters = new LinkedHashMap<String, UUID>();
+        if (after != null) {
+            filters.put("s.id > :after", after);
+        }
+        var query = entityManager.createQuery("""
+            SELECT s FROM PaymentSchedule s
+            WHERE s.active = true AND s.nextExecutionTime < :now%s
+            ORDER BY s.id
+            """.formatted(where(filters)), PaymentSchedule.class)
+            .setParameter("now", now)
+            .setMaxResults(limit);
+        // FOR UPDATE SKIP LOCKED
+        query.unwrap(SelectionQuery.class).setHibernateLockMode(LockMode.UPGRADE_SKIPLOCKED);
+        bind(query, filters);
+        return query.getResultList();
+    }
+
+    private static Map<String, UUID> filters(UUID tenantId, UUID propertyId, UUID leaseId) {
+        var filters = new LinkedHashMap<String, UUID>();
+        if (tenantId != null) {
+            filters.put("s.tenantId = :tenantId", tenantId);
+        }
+        if (propertyId != null) {
+            filters.put("s.propertyId = :propertyId", propertyId);
+        }
+        if (leaseId != null) {
+            filters.put("s.leaseId = :leaseId", leaseId);
+        }
+        return filters;
+    }
+
+    private static String where(Map<String, UUID> filters) {
+        var where = new StringBuilder();
+        filters.keySet().forEach(condition -> where.append(" AND ").append(condition));
+        return where.toString();
+    }
+
+    private static void bind(Query query, Map<String, UUID> filters) {
+        filters.forEach((condition, value) -> query.setParameter(condition.substring(condition.indexOf(':') + 1), value));
+    }
+}
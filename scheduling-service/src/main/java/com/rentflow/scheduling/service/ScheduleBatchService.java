@@ -0,0 +1,138 @@
+package com.rentflow.scheduling.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rentflow.persistence.batch.BatchImport;
+import com.rentflow.persistence.batch.BatchImport.Result;
+import com.rentflow.persistence.batch.BatchImport.Row;
+import com.rentflow.scheduling.dto.BulkScheduleRequest;
+import com.rentflow.scheduling.dto.CreateScheduleRequest;
+import com.rentflow.scheduling.kafka.ScheduleEventPublisher;
+import com.rentflow.scheduling.model.PaymentSchedule;
+import com.rentflow.scheduling.repository.PaymentScheduleRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// Schedule operations over many rows: streamed creation, and pause or resume by tenant, property or lease
+@Slf4j
+@Service
+public class ScheduleBatchService {
+
+    public enum RowStatus { CREATED, REJECTED, FAILED }
+
+    private final SchedulingService schedulingService;
+    private final PaymentScheduleRepository scheduleRepository;
+    private final ScheduleEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final BatchImport<CreateScheduleRequest, RowStatus> batchImport;
+    private final int chunkSize;
+
+    public ScheduleBatchService(
+        SchedulingService schedulingService,
+        PaymentScheduleRepository scheduleRepository,
+        ScheduleEventPublisher eventPublisher,
+        ObjectMapper objectMapper,
+        Validator validator,
+        EntityManager entityManager,
+        PlatformTransactionManager transactionManager,
+        @Value("${scheduling.batch.chunk-size:500}") int chunkSize,
+        @Value("${scheduling.batch.max-rows:100000}") int maxRows
+    ) {
+        this.schedulingService = schedulingService;
+        this.scheduleRepository = scheduleRepository;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchImport = new BatchImport<>(objectMapper, validator, CreateScheduleRequest.class, RowStatus.class,
+            "scheduleId", chunkSize, maxRows);
+        this.chunkSize = chunkSize;
+    }
+
+    // Reads a JSON array or NDJSON of CreateScheduleRequest and writes one NDJSON line per row as each chunk commits,
+    // then a summary line. Malformed JSON ends the import; the rows before it are kept
+    public void importSchedules(InputStream in, OutputStream out) {
+        var summary = batchImport.run(in, out, this::create);
+        log.info("Imported payment schedules: {} rows, {}{}", summary.rows(), summary.totals(),
+            summary.error() != null ? ", " + summary.error() : "");
+    }
+
+    public int pauseSchedules(BulkScheduleRequest request) {
+        var paused = transactionTemplate.execute(status -> scheduleRepository.pauseMatching(
+            request.tenantId(), request.propertyId(), request.leaseId(), request.reason(), Instant.now()));
+        log.info("Paused {} schedules for tenant {}, property {}, lease {} - Reason: {}",
+            paused, request.tenantId(), request.propertyId(), request.leaseId(), request.reason());
+        return paused;
+    }
+
+    // nextExecutionTime follows the same rules as a single resume, so schedules are resumed in Java a chunk at a
+    // time rather than in one UPDATE; each chunk is a transaction whose UPDATEs go out as one JDBC batch
+    public int resumeSchedules(BulkScheduleRequest request) {
+        var resumed = 0;
+        UUID after = null;
+        while (true) {
+            var from = after;
+            var chunk = transactionTemplate.execute(status -> {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(chunkSize);
+                var schedules = scheduleRepository.findPausedMatching(
+                    request.tenantId(), request.propertyId(), request.leaseId(), from, chunkSize);
+                schedules.forEach(PaymentSchedule::resume);
+                return schedules;
+            });
+            resumed += chunk.size();
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+            after = chunk.get(chunk.size() - 1).getId();
+        }
+        log.info("Resumed {} schedules for tenant {}, property {}, lease {}",
+            resumed, request.tenantId(), request.propertyId(), request.leaseId());
+        return resumed;
+    }
+
+    private List<Result<RowStatus>> create(List<Row<CreateScheduleRequest>> rows) {
+        var results = new ArrayList<Result<RowStatus>>(rows.size());
+        var schedules = new ArrayList<PaymentSchedule>();
+        for (var row : rows) {
+            if (row.request() == null) {
+                results.add(new Result<>(row.number(), RowStatus.REJECTED, null, row.errors()));
+                continue;
+            }
+            var schedule = schedulingService.newSchedule(row.request());
+            schedules.add(schedule);
+            results.add(new Result<>(row.number(), RowStatus.CREATED, schedule.getId(), List.of()));
+        }
+        if (schedules.isEmpty()) {
+            return results;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(chunkSize);
+                scheduleRepository.saveAll(schedules);
+            });
+        } catch (RuntimeException e) {
+            log.error("Failed to import schedule rows {}-{}", rows.get(0).number(), rows.get(rows.size() - 1).number(), e);
+            return results.stream()
+                .map(result -> result.status() == RowStatus.CREATED
+                    ? new Result<>(result.row(), RowStatus.FAILED, null, List.of(String.valueOf(e.getMessage())))
+                    : result)
+                .toList();
+        }
+        // After the commit, so consumers never see a schedule that was rolled back
+        eventPublisher.publishSchedulesCreated(schedules);
+        return results;
+    }
+}
@@ -0,0 +1,112 @@
+package com.rentflow.scheduling.service;
+
+import com.rentflow.events.PaymentCreated;
+import com.rentflow.events.PaymentMethod;
+import com.rentflow.events.PaymentType;
+import com.rentflow.persistence.UuidV7;
+import com.rentflow.scheduling.kafka.ScheduleEventPublisher;
+import com.rentflow.scheduling.metrics.ScheduleMetrics;
+import com.rentflow.scheduling.model.PaymentSchedule;
+import com.rentflow.scheduling.repository.PaymentScheduleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// Fires due schedules: each publishes a PaymentCreated and moves on to its next execution time. Every replica runs
+// the job, so due schedules are claimed a chunk at a time with FOR UPDATE SKIP LOCKED and each is fired by one
+// instance only. Events go out after the chunk commits, so a claim that rolled back never creates a payment
+@Slf4j
+@Component
+public class ScheduleExecutionJob {
+
+    private record Chunk(int claimed, UUID last, List<PaymentCreated> events, int failed) {}
+
+    private final PaymentScheduleRepository scheduleRepository;
+    private final ScheduleEventPublisher eventPublisher;
+    private final ScheduleMetrics scheduleMetrics;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public ScheduleExecutionJob(
+        PaymentScheduleRepository scheduleRepository,
+        ScheduleEventPublisher eventPublisher,
+        ScheduleMetrics scheduleMetrics,
+        PlatformTransactionManager transactionManager,
+        @Value("${scheduling.execution.chunk-size:100}") int chunkSize
+    ) {
+        this.scheduleRepository = scheduleRepository;
+        this.eventPublisher = eventPublisher;
+        this.scheduleMetrics = scheduleMetrics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${scheduling.execution.cron:0 */5 * * * *}") // Every 5 minutes
+    public void executeDueSchedules() {
+        var now = Instant.now();
+        var executed = 0;
+        var failed = 0;
+        UUID after = null;
+        while (true) {
+            // Claims move forward by id, so a schedule that failed is not claimed again in the same run
+            var from = after;
+            var chunk = transactionTemplate.execute(status -> execute(now, from));
+            eventPublisher.publishPaymentsCreated(chunk.events());
+            executed += chunk.events().size();
+            failed += chunk.failed();
+            if (chunk.claimed() < chunkSize) {
+                break;
+            }
+            after = chunk.last();
+        }
+        log.info("Executed {} due schedules, {} failed", executed, failed);
+    }
+
+    private Chunk execute(Instant now, UUID after) {
+        var schedules = scheduleRepository.claimDue(now, after, chunkSize);
+        var events = new ArrayList<PaymentCreated>(schedules.size());
+        var failed = 0;
+        for (var schedule : schedules) {
+            try {
+                events.add(execute(schedule));
+            } catch (Exception e) {
+                log.error("Failed to execute schedule: {}", schedule.getId(), e);
+                schedule.markExecutionFailed();
+                failed++;
+            }
+        }
+        var last = schedules.isEmpty() ? after : schedules.get(schedules.size() - 1).getId();
+        return new Chunk(schedules.size(), last, events, failed);
+    }
+
+    // The schedule is managed, so its update is flushed when the chunk commits
+    private PaymentCreated execute(PaymentSchedule schedule) {
+        scheduleMetrics.recordFiringLag(schedule, Instant.now());
+
+        var paymentEvent = new PaymentCreated(
+            UuidV7.next(),
+            schedule.getTenantId(),
+            schedule.getPropertyId(),
+            schedule.getLeaseId(),
+            schedule.getAmount(),
+            schedule.getCurrency(),
+            PaymentMethod.valueOf(schedule.getPaymentMethod().name()),
+            PaymentType.RECURRING,
+            Instant.now(),
+            Instant.now(),
+            PaymentCreated.CURRENT_VERSION
+        );
+        schedule.markExecutionCompleted(paymentEvent.paymentId());
+
+        log.info("Executed schedule: {}, payment created: {}", schedule.getId(), paymentEvent.paymentId());
+        return paymentEvent;
+    }
+}
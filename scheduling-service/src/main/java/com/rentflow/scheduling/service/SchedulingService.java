@@ -1,7 +1,6 @@
 package com.rentflow.scheduling.service;
 
-import com.rentflow.scheduling.events.PaymentCreated;
-import com.rentflow.scheduling.events.PaymentScheduled;
+import com.rentflow.persistence.UuidV7;
 import com.rentflow.scheduling.dto.CreateScheduleRequest;
 import com.rentflow.scheduling.dto.ScheduleResponse;
 import com.rentflow.scheduling.exception.ScheduleNotFoundException;
@@ -10,7 +9,6 @@ import com.rentflow.scheduling.model.PaymentSchedule;
 import com.rentflow.scheduling.repository.PaymentScheduleRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,8 +26,18 @@ public class SchedulingService {
 
     @Transactional
     public ScheduleResponse createSchedule(CreateScheduleRequest request) {
-        var schedule = PaymentSchedule.builder()
-            .id(UUID.randomUUID())
+        var schedule = scheduleRepository.save(newSchedule(request));
+
+        // Publish scheduled event
+        eventPublisher.publishScheduleCreated(schedule);
+
+        log.info("Created payment schedule: {} for lease: {}", schedule.getId(), request.leaseId());
+        return toResponse(schedule);
+    }
+
+    PaymentSchedule newSchedule(CreateScheduleRequest request) {
+        return PaymentSchedule.builder()
+            .id(UuidV7.next())
             .tenantId(request.tenantId())
             .propertyId(request.propertyId())
             .leaseId(request.leaseId())
@@ -50,14 +58,6 @@ public class SchedulingService {
             .maxRetries(request.maxRetries() != null ? request.maxRetries() : 3)
             .nextExecutionTime(calculateFirstExecution(request))
             .build();
-
-        schedule = scheduleRepository.save(schedule);
-
-        // Publish scheduled event
-        eventPublisher.publishScheduleCreated(schedule);
-
-        log.info("Created payment schedule: {} for lease: {}", schedule.getId(), request.leaseId());
-        return toResponse(schedule);
     }
 
     private Instant calculateFirstExecution(CreateScheduleRequest request) {
@@ -75,6 +75,24 @@ public class SchedulingService {
         return toResponse(schedule);
     }
 
+    // Conditional GETs are answered from the version columns, before any schedule is loaded
+    @Transactional(readOnly = true)
+    public String getScheduleTag(UUID id) {
+        return scheduleRepository.findVersionById(id)
+            .map(version -> id + "-" + version)
+            .orElseThrow(() -> new ScheduleNotFoundException(id));
+    }
+
+    @Transactional(readOnly = true)
+    public String getTenantSchedulesTag(UUID tenantId) {
+        return scheduleRepository.findTenantTag(tenantId);
+    }
+
+    @Transactional(readOnly = true)
+    public String getLeaseSchedulesTag(UUID leaseId) {
+        return scheduleRepository.findLeaseTag(leaseId);
+    }
+
     @Transactional(readOnly = true)
     public List<ScheduleResponse> getSchedulesByTenant(UUID tenantId) {
         return scheduleRepository.findByTenantIdOrderByCreatedAtDesc(tenantId).stream()
@@ -122,49 +140,6 @@ public class SchedulingService {
         log.info("Deleted schedule: {}", id);
     }
 
-    @Scheduled(cron = "${scheduling.execution.cron:0 */5 * * * *}") // Every 5 minutes
-    @Transactional
-    public void executeDueSchedules() {
-        var schedules = scheduleRepository.findSchedulesReadyForExecution(Instant.now());
-
-        log.info("Found {} schedules ready for execution", schedules.size());
-
-        for (var schedule : schedules) {
-            try {
-                executeSchedule(schedule);
-            } catch (Exception e) {
-                log.error("Failed to execute schedule: {}", schedule.getId(), e);
-                schedule.markExecutionFailed();
-                scheduleRepository.save(schedule);
-            }
-        }
-    }
-
-    private void executeSchedule(PaymentSchedule schedule) {
-        // Publish payment creation event to trigger payment service
-        var paymentEvent = new PaymentCreated(
-            UUID.randomUUID(),
-            schedule.getTenantId(),
-            schedule.getPropertyId(),
-            schedule.getLeaseId(),
-            schedule.getAmount(),
-            schedule.getCurrency(),
-            schedule.getPaymentMethod().name(),
-            "RECURRING",
-            Instant.now(),
-            Instant.now(),
-            1
-        );
-
-        eventPublisher.publishPaymentCreated(paymentEvent, schedule.getId());
-
-        // Update schedule
-        schedule.markExecutionCompleted(paymentEvent.paymentId());
-        scheduleRepository.save(schedule);
-
-        log.info("Executed schedule: {}, payment created: {}", schedule.getId(), paymentEvent.paymentId());
-    }
-
     private ScheduleResponse toResponse(PaymentSchedule schedule) {
         return new ScheduleResponse(
             schedule.getId(),
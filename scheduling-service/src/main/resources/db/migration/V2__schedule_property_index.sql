@@ -0,0 +1,2 @@
+-- Bulk pause and resume select schedules by property
+CREATE INDEX idx_schedule_property ON payment_schedules(property_id);
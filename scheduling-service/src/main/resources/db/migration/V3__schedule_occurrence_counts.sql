@@ -0,0 +1,3 @@
+-- Schedules created through the API were inserted with NULL counts, which the execution job increments
+UPDATE payment_schedules SET completed_occurrences = 0 WHERE completed_occurrences IS NULL;
+UPDATE payment_schedules SET failed_occurrences = 0 WHERE failed_occurrences IS NULL;
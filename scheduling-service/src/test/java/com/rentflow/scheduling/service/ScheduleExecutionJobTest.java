@@ -0,0 +1,128 @@
+package com.rentflow.scheduling.service;
+
+import com.rentflow.events.PaymentCreated;
+import com.rentflow.persistence.PersistenceAutoConfiguration;
+import com.rentflow.persistence.UuidV7;
+import com.rentflow.persistence.test.PostgresContainerTest;
+import com.rentflow.scheduling.kafka.ScheduleEventPublisher;
+import com.rentflow.scheduling.metrics.ScheduleMetrics;
+import com.rentflow.scheduling.model.PaymentMethod;
+import com.rentflow.scheduling.model.PaymentSchedule;
+import com.rentflow.scheduling.model.RecurrencePattern;
+import com.rentflow.scheduling.repository.PaymentScheduleRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+
+// Several replicas sweep the same due schedules at once. Each run claims its chunks with SKIP LOCKED in its own
+// transactions, as on separate instances, so every schedule should fire exactly once
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(PersistenceAutoConfiguration.class)
+@Import(ScheduleExecutionJob.class)
+@TestPropertySource(properties = "scheduling.execution.chunk-size=5")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ScheduleExecutionJobTest extends PostgresContainerTest {
+
+    private static final int SCHEDULES = 40;
+    private static final int REPLICAS = 4;
+
+    @Autowired
+    private ScheduleExecutionJob job;
+
+    @Autowired
+    private PaymentScheduleRepository scheduleRepository;
+
+    @MockBean
+    private ScheduleEventPublisher eventPublisher;
+
+    @MockBean
+    private ScheduleMetrics scheduleMetrics;
+
+    @Test
+    void concurrentRunsFireEachDueScheduleOnce() throws Exception {
+        var ids = new ArrayList<UUID>();
+        for (int i = 0; i < SCHEDULES; i++) {
+            ids.add(scheduleRepository.save(dueSchedule()).getId());
+        }
+        var published = new ConcurrentLinkedQueue<PaymentCreated>();
+        doAnswer(invocation -> published.addAll(invocation.getArgument(0)))
+            .when(eventPublisher).publishPaymentsCreated(anyList());
+
+        var executor = Executors.newFixedThreadPool(REPLICAS);
+        try {
+            var start = new CountDownLatch(1);
+            var runs = new ArrayList<Future<?>>();
+            for (int i = 0; i < REPLICAS; i++) {
+                runs.add(executor.submit(() -> {
+                    start.await();
+                    job.executeDueSchedules();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (var run : runs) {
+                run.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        var schedules = scheduleRepository.findAllById(ids);
+        var ours = Set.copyOf(ids);
+        var events = published.stream().filter(event -> ours.contains(event.leaseId())).toList();
+        assertThat(events).hasSize(SCHEDULES);
+        assertThat(schedules).allSatisfy(schedule -> {
+            assertThat(schedule.getCompletedOccurrences()).isEqualTo(1);
+            assertThat(schedule.getFailedOccurrences()).isZero();
+            assertThat(schedule.getVersion()).isEqualTo(1);
+            assertThat(schedule.getNextExecutionTime()).isAfter(Instant.now());
+        });
+        // Each event carries the payment id its schedule recorded
+        assertThat(events.stream().map(PaymentCreated::paymentId).collect(Collectors.toSet()))
+            .isEqualTo(schedules.stream().map(PaymentSchedule::getLastPaymentId).collect(Collectors.toSet()));
+    }
+
+    // The schedule's id doubles as its lease id, so the test can pick out its own events
+    private static PaymentSchedule dueSchedule() {
+        var id = UuidV7.next();
+        return PaymentSchedule.builder()
+            .id(id)
+            .tenantId(UUID.randomUUID())
+            .propertyId(UUID.randomUUID())
+            .leaseId(id)
+            .name("Monthly rent")
+            .amount(new BigDecimal("1500.00"))
+            .currency("USD")
+            .paymentMethod(PaymentMethod.ACH)
+            .recurrencePattern(RecurrencePattern.MONTHLY)
+            .dayOfMonth(1)
+            .startDate(LocalDate.now().minusMonths(1))
+            .nextExecutionTime(Instant.now().minus(1, ChronoUnit.MINUTES))
+            .build();
+    }
+}
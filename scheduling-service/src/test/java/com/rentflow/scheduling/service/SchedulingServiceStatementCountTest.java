@@ -0,0 +1,64 @@
+package com.rentflow.scheduling.service;
+
+import com.rentflow.persistence.PersistenceAutoConfiguration;
+import com.rentflow.persistence.test.PostgresContainerTest;
+import com.rentflow.persistence.test.StatementCountingConfiguration;
+import com.rentflow.scheduling.dto.CreateScheduleRequest;
+import com.rentflow.scheduling.kafka.ScheduleEventPublisher;
+import com.rentflow.scheduling.metrics.ScheduleMetrics;
+import com.rentflow.scheduling.model.PaymentMethod;
+import com.rentflow.scheduling.model.RecurrencePattern;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// createSchedule commits for real, so the insert is flushed and counted; a merge would show up as an extra SELECT
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(PersistenceAutoConfiguration.class)
+@Import({SchedulingService.class, StatementCountingConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SchedulingServiceStatementCountTest extends PostgresContainerTest {
+
+    @Autowired
+    private SchedulingService schedulingService;
+
+    @MockBean
+    private ScheduleEventPublisher eventPublisher;
+
+    @MockBean
+    private ScheduleMetrics scheduleMetrics;
+
+    @Test
+    void createScheduleIsASingleInsert() {
+        QueryCountHolder.clear();
+
+        schedulingService.createSchedule(request());
+
+        var count = QueryCountHolder.getGrandTotal();
+        assertThat(count.getInsert()).isEqualTo(1);
+        assertThat(count.getSelect()).isZero();
+        assertThat(count.getUpdate()).isZero();
+        assertThat(count.getDelete()).isZero();
+    }
+
+    private static CreateScheduleRequest request() {
+        return new CreateScheduleRequest(
+            UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), "Monthly rent",
+            new BigDecimal("1500.00"), "USD", PaymentMethod.ACH, null, null,
+            RecurrencePattern.MONTHLY, 1, null, LocalDate.now().plusDays(1), null, 12, "Rent", true, 3);
+    }
+}
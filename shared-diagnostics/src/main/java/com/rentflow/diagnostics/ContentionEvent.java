@@ -0,0 +1,20 @@
+package com.rentflow.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+// Base for application events that time a wait on a shared resource the JVM cannot see, such as a database
+// row lock. Subclasses named com.rentflow.* are grouped per resource in the recording summary
+@Category("RentFlow")
+@StackTrace(false)
+public abstract class ContentionEvent extends Event {
+
+    @Label("Resource")
+    public String resource;
+
+    protected ContentionEvent(String resource) {
+        this.resource = resource;
+    }
+}
@@ -0,0 +1,220 @@
+package com.rentflow.diagnostics;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Owns the on-demand recordings started through the profiling endpoint and the optional ring buffer. Finished
+// recordings stay on disk under the diagnostics directory until the retention limit pushes them out
+public class FlightRecorderService implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(FlightRecorderService.class);
+    private static final String NAME_PREFIX = "rentflow-";
+
+    private final Path directory;
+    private final Duration maxDuration;
+    private final int retained;
+    private final Map<Long, Tracked> recordings = new ConcurrentHashMap<>();
+    private volatile Recording ringBuffer;
+
+    public FlightRecorderService(Path directory, Duration maxDuration, int retained) {
+        this.directory = directory;
+        this.maxDuration = maxDuration;
+        this.retained = retained;
+    }
+
+    // profile is a JDK configuration name: "default" (~1% overhead) or "profile" (more allocation and lock detail)
+    public RecordingInfo start(String profile, Duration duration) {
+        var configuration = configuration(profile);
+        var bounded = duration == null || duration.compareTo(maxDuration) > 0 ? maxDuration : duration;
+
+        var recording = new Recording(configuration);
+        recording.setName(NAME_PREFIX + profile);
+        recording.setToDisk(true);
+        recording.setDuration(bounded);
+        var file = file(NAME_PREFIX + recording.getId());
+        try {
+            // Written by the JVM when the recording stops, including when its duration runs out
+            recording.setDestination(file);
+        } catch (IOException e) {
+            recording.close();
+            throw new UncheckedIOException(e);
+        }
+        recording.start();
+        recordings.put(recording.getId(), new Tracked(recording, file, profile, "on demand"));
+        evictOldest();
+
+        log.info("Started JFR recording {} with profile {} for {}", recording.getId(), profile, bounded);
+        return info(recordings.get(recording.getId()));
+    }
+
+    public RecordingInfo stop(long id) {
+        var tracked = require(id);
+        if (tracked.recording().getState() == RecordingState.RUNNING) {
+            tracked.recording().stop();
+            log.info("Stopped JFR recording {}", id);
+        }
+        evictOldest();
+        return info(tracked);
+    }
+
+    // A running recording is snapshotted to a side file so the download does not end it
+    public Path file(long id) {
+        var tracked = require(id);
+        if (tracked.recording().getState() != RecordingState.RUNNING) {
+            return tracked.file();
+        }
+        var snapshot = file(NAME_PREFIX + id + "-snapshot");
+        try {
+            tracked.recording().dump(snapshot);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return snapshot;
+    }
+
+    public List<RecordingInfo> recordings() {
+        return recordings.values().stream()
+            .sorted(Comparator.comparingLong(t -> t.recording().getId()))
+            .map(this::info)
+            .toList();
+    }
+
+    public boolean ringBufferRunning() {
+        return ringBuffer != null;
+    }
+
+    // Continuous low-overhead recording that keeps only the last maxAge of data until something dumps it
+    public synchronized void startRingBuffer(String profile, Duration maxAge, long maxSizeBytes) {
+        if (ringBuffer != null) {
+            return;
+        }
+        var recording = new Recording(configuration(profile));
+        recording.setName(NAME_PREFIX + "ring-buffer");
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge);
+        recording.setMaxSize(maxSizeBytes);
+        recording.start();
+        ringBuffer = recording;
+        log.info("Started JFR ring buffer keeping the last {} with profile {}", maxAge, profile);
+    }
+
+    // The copy gets its own recording id, so a dump is listed, summarized and downloaded like any other recording
+    public synchronized RecordingInfo dumpRingBuffer(String reason) {
+        if (ringBuffer == null) {
+            throw new IllegalStateException("The JFR ring buffer is not running");
+        }
+        var copy = ringBuffer.copy(true);
+        var file = file(NAME_PREFIX + copy.getId());
+        try {
+            copy.dump(file);
+        } catch (IOException e) {
+            copy.close();
+            throw new UncheckedIOException(e);
+        }
+        recordings.put(copy.getId(), new Tracked(copy, file, "ring-buffer", reason));
+        evictOldest();
+
+        log.warn("Dumped JFR ring buffer to {}: {}", file, reason);
+        return info(recordings.get(copy.getId()));
+    }
+
+    @Override
+    public void destroy() {
+        if (ringBuffer != null) {
+            ringBuffer.close();
+        }
+        recordings.values().forEach(t -> t.recording().close());
+    }
+
+    private Tracked require(long id) {
+        var tracked = recordings.get(id);
+        if (tracked == null) {
+            throw new RecordingNotFoundException(id);
+        }
+        return tracked;
+    }
+
+    private Path file(String name) {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return directory.resolve(name + ".jfr");
+    }
+
+    private void evictOldest() {
+        var finished = recordings.values().stream()
+            .filter(t -> t.recording().getState() != RecordingState.RUNNING)
+            .sorted(Comparator.comparingLong(t -> t.recording().getId()))
+            .toList();
+        for (int i = 0; i < finished.size() - retained; i++) {
+            var tracked = finished.get(i);
+            recordings.remove(tracked.recording().getId());
+            tracked.recording().close();
+            try {
+                Files.deleteIfExists(tracked.file());
+                Files.deleteIfExists(file(NAME_PREFIX + tracked.recording().getId() + "-snapshot"));
+            } catch (IOException e) {
+                log.warn("Could not delete JFR file {}", tracked.file(), e);
+            }
+        }
+    }
+
+    private RecordingInfo info(Tracked tracked) {
+        var recording = tracked.recording();
+        return new RecordingInfo(
+            recording.getId(),
+            tracked.profile(),
+            tracked.reason(),
+            recording.getState().name(),
+            recording.getStartTime(),
+            recording.getStopTime(),
+            recording.getDuration(),
+            Files.exists(tracked.file()) ? tracked.file().toString() : null
+        );
+    }
+
+    private static Configuration configuration(String profile) {
+        try {
+            return Configuration.getConfiguration(profile);
+        } catch (IOException | ParseException e) {
+            throw new IllegalArgumentException("Unknown JFR profile: " + profile, e);
+        }
+    }
+
+    private record Tracked(Recording recording, Path file, String profile, String reason) {}
+
+    public record RecordingInfo(
+        long id,
+        String profile,
+        String reason,
+        String state,
+        Instant startTime,
+        Instant stopTime,
+        Duration duration,
+        String file
+    ) {}
+
+    public static class RecordingNotFoundException extends RuntimeException {
+        public RecordingNotFoundException(long id) {
+            super("No JFR recording with id " + id);
+        }
+    }
+}
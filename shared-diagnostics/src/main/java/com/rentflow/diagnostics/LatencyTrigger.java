@@ -0,0 +1,101 @@
+package com.rentflow.diagnostics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Dumps the ring buffer when a timer's p99 crosses the threshold, so the minutes leading up to a latency spike
+// are captured without anyone watching. The timer must publish a 0.99 percentile; Micrometer decays it over
+// a sliding window, which keeps one old outlier from re-triggering forever
+public class LatencyTrigger implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(LatencyTrigger.class);
+    private static final double P99 = 0.99;
+
+    private final FlightRecorderService recorder;
+    private final MeterRegistry registry;
+    private final String meterName;
+    private final Duration threshold;
+    private final Duration checkInterval;
+    private final Duration cooldown;
+    private ScheduledExecutorService scheduler;
+    private Instant lastDump = Instant.EPOCH;
+    private boolean warnedMissing;
+
+    public LatencyTrigger(
+        FlightRecorderService recorder,
+        MeterRegistry registry,
+        String meterName,
+        Duration threshold,
+        Duration checkInterval,
+        Duration cooldown
+    ) {
+        this.recorder = recorder;
+        this.registry = registry;
+        this.meterName = meterName;
+        this.threshold = threshold;
+        this.checkInterval = checkInterval;
+        this.cooldown = cooldown;
+    }
+
+    void check() {
+        try {
+            var timers = registry.find(meterName).timers();
+            if (timers.isEmpty()) {
+                return;
+            }
+            var p99 = timers.stream()
+                .map(Timer::takeSnapshot)
+                .flatMap(snapshot -> Arrays.stream(snapshot.percentileValues()))
+                .filter(value -> Math.abs(value.percentile() - P99) < 1e-9)
+                .mapToDouble(value -> value.value(TimeUnit.MILLISECONDS))
+                .max();
+            if (p99.isEmpty()) {
+                if (!warnedMissing) {
+                    log.warn("No p99 published for {}; add it under management.metrics.distribution.percentiles",
+                        meterName);
+                    warnedMissing = true;
+                }
+                return;
+            }
+
+            var now = Instant.now();
+            if (p99.getAsDouble() > threshold.toMillis() && now.isAfter(lastDump.plus(cooldown))) {
+                lastDump = now;
+                recorder.dumpRingBuffer(String.format("%s p99 %.0f ms exceeded %d ms",
+                    meterName, p99.getAsDouble(), threshold.toMillis()));
+            }
+        } catch (RuntimeException e) {
+            log.error("JFR latency trigger check failed", e);
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().daemon().name("jfr-trigger").factory());
+        var millis = checkInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::check, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+}
@@ -0,0 +1,97 @@
+package com.rentflow.diagnostics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// Streams jdk.VirtualThreadPinned while the service runs on virtual threads. A pinned virtual thread blocks its
+// carrier, typically inside a synchronized block in a JDBC driver or SDK; each site is logged with its stack once
+// and timed in rentflow.virtual.pinned
+public class PinningMonitor implements SmartLifecycle {
+
+    static final String PINNED = "rentflow.virtual.pinned";
+
+    private static final Logger log = LoggerFactory.getLogger(PinningMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final Set<String> JDK_PACKAGES = Set.of("java.", "javax.", "jdk.", "sun.");
+
+    private final MeterRegistry registry;
+    private final Duration threshold;
+    private final Set<String> reported = ConcurrentHashMap.newKeySet();
+    private RecordingStream stream;
+
+    public PinningMonitor(MeterRegistry registry, Duration threshold) {
+        this.registry = registry;
+        this.threshold = threshold;
+    }
+
+    void pinned(RecordedEvent event) {
+        var site = site(event);
+        Timer.builder(PINNED)
+            .description("Time virtual threads spent pinned to their carrier, by the frame that pinned them")
+            .tag("site", site)
+            .register(registry)
+            .record(event.getDuration());
+        if (reported.add(site)) {
+            log.warn("Virtual thread pinned for {} ms at {}:\n{}", event.getDuration().toMillis(), site,
+                stack(event));
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::pinned);
+        stream.startAsync();
+        log.info("Watching for virtual threads pinned longer than {}", threshold);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return stream != null;
+    }
+
+    // The first frame outside the JDK is the library or class that held the monitor, e.g. a PgJDBC or Stripe method,
+    // which also keeps the site tag low-cardinality
+    static String site(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "unknown";
+        }
+        return event.getStackTrace().getFrames().stream()
+            .filter(RecordedFrame::isJavaFrame)
+            .filter(frame -> JDK_PACKAGES.stream().noneMatch(frame.getMethod().getType().getName()::startsWith))
+            .findFirst()
+            .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName())
+            .orElse("jdk");
+    }
+
+    private static String stack(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "\t(no stack trace)";
+        }
+        return event.getStackTrace().getFrames().stream()
+            .limit(20)
+            .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber())
+            .collect(Collectors.joining("\n"));
+    }
+}
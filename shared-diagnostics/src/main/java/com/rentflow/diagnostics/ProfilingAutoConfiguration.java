@@ -0,0 +1,73 @@
+package com.rentflow.diagnostics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@AutoConfiguration(afterName = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
+public class ProfilingAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public FlightRecorderService flightRecorderService(
+        @Value("${rentflow.profiling.directory:${java.io.tmpdir}/rentflow-jfr}") String directory,
+        @Value("${rentflow.profiling.max-duration:10m}") Duration maxDuration,
+        @Value("${rentflow.profiling.retained-recordings:10}") int retained,
+        @Value("${rentflow.profiling.ring-buffer.enabled:false}") boolean ringBuffer,
+        @Value("${rentflow.profiling.ring-buffer.profile:default}") String ringBufferProfile,
+        @Value("${rentflow.profiling.ring-buffer.max-age:5m}") Duration maxAge,
+        @Value("${rentflow.profiling.ring-buffer.max-size-mb:64}") long maxSizeMb
+    ) {
+        var service = new FlightRecorderService(Path.of(directory), maxDuration, retained);
+        if (ringBuffer) {
+            service.startRingBuffer(ringBufferProfile, maxAge, maxSizeMb * 1024 * 1024);
+        }
+        return service;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnAvailableEndpoint(endpoint = ProfilingEndpoint.class)
+    public ProfilingEndpoint profilingEndpoint(
+        FlightRecorderService recorder,
+        @Value("${rentflow.profiling.summary-top:20}") int summaryTop
+    ) {
+        return new ProfilingEndpoint(recorder, summaryTop);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(MeterRegistry.class)
+    @ConditionalOnProperty({"rentflow.profiling.ring-buffer.enabled", "rentflow.profiling.trigger.enabled"})
+    public LatencyTrigger latencyTrigger(
+        FlightRecorderService recorder,
+        MeterRegistry registry,
+        @Value("${rentflow.profiling.trigger.meter:http.server.requests}") String meterName,
+        @Value("${rentflow.profiling.trigger.p99-threshold:2s}") Duration threshold,
+        @Value("${rentflow.profiling.trigger.check-interval:15s}") Duration checkInterval,
+        @Value("${rentflow.profiling.trigger.cooldown:10m}") Duration cooldown
+    ) {
+        return new LatencyTrigger(recorder, registry, meterName, threshold, checkInterval, cooldown);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(MeterRegistry.class)
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public PinningMonitor pinningMonitor(
+        MeterRegistry registry,
+        @Value("${rentflow.profiling.pinning.threshold:20ms}") Duration threshold
+    ) {
+        return new PinningMonitor(registry, threshold);
+    }
+}
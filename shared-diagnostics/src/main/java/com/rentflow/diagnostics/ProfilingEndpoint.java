@@ -0,0 +1,88 @@
+package com.rentflow.diagnostics;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.Map;
+
+// POST /actuator/profiling {"profile": "profile", "seconds": 120} starts a recording, DELETE /actuator/profiling/{id}
+// stops it, GET /actuator/profiling/{id} downloads the .jfr and GET /actuator/profiling/{id}/summary condenses it.
+// Web only, like heapdump, because the recording is streamed back as a file
+@WebEndpoint(id = "profiling")
+public class ProfilingEndpoint {
+
+    private final FlightRecorderService recorder;
+    private final int summaryTop;
+
+    public ProfilingEndpoint(FlightRecorderService recorder, int summaryTop) {
+        this.recorder = recorder;
+        this.summaryTop = summaryTop;
+    }
+
+    @ReadOperation
+    public Map<String, Object> recordings() {
+        return Map.of(
+            "ringBuffer", recorder.ringBufferRunning(),
+            "recordings", recorder.recordings()
+        );
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Object> start(@Nullable String profile, @Nullable Long seconds) {
+        try {
+            return new WebEndpointResponse<>(recorder.start(
+                profile != null ? profile : "default",
+                seconds != null ? Duration.ofSeconds(seconds) : null
+            ));
+        } catch (IllegalArgumentException e) {
+            return new WebEndpointResponse<>(Map.of("error", e.getMessage()), WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+    }
+
+    @DeleteOperation
+    public WebEndpointResponse<FlightRecorderService.RecordingInfo> stop(@Selector long id) {
+        try {
+            return new WebEndpointResponse<>(recorder.stop(id));
+        } catch (FlightRecorderService.RecordingNotFoundException e) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> download(@Selector long id) {
+        try {
+            var file = recorder.file(id);
+            if (!Files.exists(file)) {
+                return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+            }
+            return new WebEndpointResponse<>(new FileSystemResource(file));
+        } catch (FlightRecorderService.RecordingNotFoundException e) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+    }
+
+    @ReadOperation
+    public WebEndpointResponse<RecordingSummary> summary(@Selector long id, @Selector String view) {
+        if (!"summary".equals(view)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        try {
+            var file = recorder.file(id);
+            if (!Files.exists(file)) {
+                return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+            }
+            return new WebEndpointResponse<>(RecordingSummary.of(file, summaryTop));
+        } catch (FlightRecorderService.RecordingNotFoundException e) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+    }
+}
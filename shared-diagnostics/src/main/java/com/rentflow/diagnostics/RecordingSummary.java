@@ -0,0 +1,168 @@
+package com.rentflow.diagnostics;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Condensed view of a recording, so the first look at a slow instance does not need JDK Mission Control
+public record RecordingSummary(
+    Instant start,
+    Instant end,
+    List<Allocation> allocations,
+    List<Contention> lockContention,
+    Contention connectionPoolWait,
+    List<Contention> applicationContention,
+    List<Contention> pinnedVirtualThreads
+) {
+
+    private static final String APPLICATION_PACKAGE = "com.rentflow.";
+    private static final String HIKARI_BORROW = "com.zaxxer.hikari.pool.HikariPool.getConnection";
+    private static final String LOCK_ACQUIRE = "java.util.concurrent.locks.AbstractQueuedSynchronizer.acquire";
+
+    public record Allocation(String site, long samples, long bytes) {}
+
+    public record Contention(String site, long events, double totalMillis, double maxMillis) {}
+
+    public static RecordingSummary of(Path file, int top) {
+        var allocations = new HashMap<String, long[]>();
+        var locks = new HashMap<String, Accumulator>();
+        var application = new HashMap<String, Accumulator>();
+        var pinned = new HashMap<String, Accumulator>();
+        var pool = new Accumulator(HIKARI_BORROW);
+        Instant start = null;
+        Instant end = null;
+
+        try (var recording = new RecordingFile(file)) {
+            while (recording.hasMoreEvents()) {
+                var event = recording.readEvent();
+                start = start == null || event.getStartTime().isBefore(start) ? event.getStartTime() : start;
+                end = end == null || event.getEndTime().isAfter(end) ? event.getEndTime() : end;
+
+                var type = event.getEventType().getName();
+                switch (type) {
+                    case "jdk.ObjectAllocationSample" -> {
+                        var site = event.getClass("objectClass").getName() + " @ " + site(event.getStackTrace());
+                        var totals = allocations.computeIfAbsent(site, k -> new long[2]);
+                        totals[0]++;
+                        totals[1] += event.getLong("weight");
+                    }
+                    case "jdk.JavaMonitorEnter" -> locks
+                        .computeIfAbsent(event.getClass("monitorClass").getName() + " @ " + site(event.getStackTrace()),
+                            Accumulator::new)
+                        .add(event.getDuration());
+                    case "jdk.ThreadPark" -> {
+                        // Idle pool threads park too; only borrowing a connection or acquiring a lock is a wait
+                        if (contains(event.getStackTrace(), HIKARI_BORROW)) {
+                            pool.add(event.getDuration());
+                        } else if (contains(event.getStackTrace(), LOCK_ACQUIRE)) {
+                            locks.computeIfAbsent(parkedClass(event) + " @ " + site(event.getStackTrace()),
+                                Accumulator::new).add(event.getDuration());
+                        }
+                    }
+                    case "jdk.VirtualThreadPinned" -> pinned
+                        .computeIfAbsent(PinningMonitor.site(event), Accumulator::new)
+                        .add(event.getDuration());
+                    default -> {
+                        if (type.startsWith(APPLICATION_PACKAGE) && event.hasField("resource")) {
+                            application.computeIfAbsent(event.getEventType().getLabel() + " " + event.getString("resource"),
+                                Accumulator::new).add(event.getDuration());
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return new RecordingSummary(
+            start,
+            end,
+            allocations.entrySet().stream()
+                .map(e -> new Allocation(e.getKey(), e.getValue()[0], e.getValue()[1]))
+                .sorted(Comparator.comparingLong(Allocation::bytes).reversed())
+                .limit(top)
+                .toList(),
+            top(locks, top),
+            pool.toContention(),
+            top(application, top),
+            top(pinned, top)
+        );
+    }
+
+    private static List<Contention> top(Map<String, Accumulator> sites, int top) {
+        return sites.values().stream()
+            .map(Accumulator::toContention)
+            .sorted(Comparator.comparingDouble(Contention::totalMillis).reversed())
+            .limit(top)
+            .toList();
+    }
+
+    // The first application frame says more than the top frame, which is usually inside the JDK or a library
+    private static String site(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "unknown";
+        }
+        var frames = stackTrace.getFrames();
+        return frames.stream()
+            .filter(f -> f.isJavaFrame() && f.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE))
+            .findFirst()
+            .map(RecordingSummary::describe)
+            .orElseGet(() -> describe(frames.get(0)));
+    }
+
+    private static boolean contains(RecordedStackTrace stackTrace, String method) {
+        if (stackTrace == null) {
+            return false;
+        }
+        for (var frame : stackTrace.getFrames()) {
+            var name = frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+            if (name.startsWith(method)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String parkedClass(RecordedEvent event) {
+        var parkedClass = event.getClass("parkedClass");
+        return parkedClass != null ? parkedClass.getName() : "unknown";
+    }
+
+    private static String describe(RecordedFrame frame) {
+        var method = frame.getMethod();
+        return method.getType().getName() + "." + method.getName() + ":" + frame.getLineNumber();
+    }
+
+    private static final class Accumulator {
+        private final String site;
+        private long events;
+        private long totalNanos;
+        private long maxNanos;
+
+        Accumulator(String site) {
+            this.site = site;
+        }
+
+        void add(Duration duration) {
+            var nanos = duration.toNanos();
+            events++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        Contention toContention() {
+            return new Contention(site, events, totalNanos / 1_000_000.0, maxNanos / 1_000_000.0);
+        }
+    }
+}
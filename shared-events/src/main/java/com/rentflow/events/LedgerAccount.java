@@ -0,0 +1,7 @@
+package com.rentflow.events;
+
+public record LedgerAccount(
+    String accountNumber,
+    String accountType,
+    String ownerId
+) {}
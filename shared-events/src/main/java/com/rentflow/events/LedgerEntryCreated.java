@@ -0,0 +1,32 @@
+package com.rentflow.events;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+public record LedgerEntryCreated(
+    UUID entryId,
+    UUID paymentId,
+    UUID tenantId,
+    UUID propertyId,
+    UUID leaseId,
+    LedgerAccount debitAccount,
+    LedgerAccount creditAccount,
+    BigDecimal amount,
+    String currency,
+    String reference,
+    String description,
+    LedgerEntryType entryType,
+    Instant timestamp,
+    Integer version
+) implements LedgerEvent {
+    public static final String EVENT_TYPE = "ledger.entry.created";
+    public static final int CURRENT_VERSION = 1;
+
+    public String eventType() { return EVENT_TYPE; }
+    public LedgerEntryCreated {
+        if (version == null) {
+            version = CURRENT_VERSION;
+        }
+    }
+}
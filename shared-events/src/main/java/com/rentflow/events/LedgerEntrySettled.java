@@ -0,0 +1,24 @@
+package com.rentflow.events;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+public record LedgerEntrySettled(
+    UUID entryId,
+    UUID transactionId,
+    BigDecimal settledAmount,
+    Instant settledAt,
+    Instant timestamp,
+    Integer version
+) implements LedgerEvent {
+    public static final String EVENT_TYPE = "ledger.entry.settled";
+    public static final int CURRENT_VERSION = 1;
+
+    public String eventType() { return EVENT_TYPE; }
+    public LedgerEntrySettled {
+        if (version == null) {
+            version = CURRENT_VERSION;
+        }
+    }
+}
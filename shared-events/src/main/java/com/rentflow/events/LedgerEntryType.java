@@ -0,0 +1,11 @@
+package com.rentflow.events;
+
+public enum LedgerEntryType {
+    RENT_PAYMENT,
+    PARTIAL_PAYMENT,
+    LATE_FEE,
+    SECURITY_DEPOSIT,
+    REFUND,
+    ADJUSTMENT,
+    CHARGEBACK
+}
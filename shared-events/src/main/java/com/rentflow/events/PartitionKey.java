@@ -0,0 +1,14 @@
+package com.rentflow.events;
+
+import java.util.UUID;
+
+// Record key used by every publisher. All events for one lease (or tenant) hash to the same partition,
+// so consumers can process partitions concurrently and still see each lease's events in order
+public enum PartitionKey {
+    LEASE,
+    TENANT;
+
+    public UUID select(UUID leaseId, UUID tenantId) {
+        return this == LEASE ? leaseId : tenantId;
+    }
+}
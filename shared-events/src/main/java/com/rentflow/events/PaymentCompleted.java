@@ -0,0 +1,26 @@
+package com.rentflow.events;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+public record PaymentCompleted(
+    UUID paymentId,
+    String transactionId,
+    BigDecimal settledAmount,
+    BigDecimal feeAmount,
+    String settlementMethod,
+    Instant settledAt,
+    Instant timestamp,
+    Integer version
+) implements PaymentEvent {
+    public static final String EVENT_TYPE = "payment.completed";
+    public static final int CURRENT_VERSION = 1;
+
+    public String eventType() { return EVENT_TYPE; }
+    public PaymentCompleted {
+        if (version == null) {
+            version = CURRENT_VERSION;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.rentflow.events;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+public record PaymentCreated(
+    UUID paymentId,
+    UUID tenantId,
+    UUID propertyId,
+    UUID leaseId,
+    BigDecimal amount,
+    String currency,
+    PaymentMethod paymentMethod,
+    PaymentType paymentType,
+    Instant scheduledFor,
+    Instant timestamp,
+    Integer version
+) implements PaymentEvent {
+    public static final String EVENT_TYPE = "payment.created";
+    public static final int CURRENT_VERSION = 1;
+
+    public String eventType() { return EVENT_TYPE; }
+    public PaymentCreated {
+        if (version == null) {
+            version = CURRENT_VERSION;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.rentflow.events;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record PaymentFailed(
+    UUID paymentId,
+    String errorCode,
+    String errorMessage,
+    boolean retryable,
+    Instant retryAfter,
+    Instant timestamp,
+    Integer version
+) implements PaymentEvent {
+    public static final String EVENT_TYPE = "payment.failed";
+    public static final int CURRENT_VERSION = 1;
+
+    public String eventType() { return EVENT_TYPE; }
+    public PaymentFailed {
+        if (version == null) {
+            version = CURRENT_VERSION;
+        }
+    }
+}
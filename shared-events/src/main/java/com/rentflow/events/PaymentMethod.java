@@ -0,0 +1,8 @@
+package com.rentflow.events;
+
+public enum PaymentMethod {
+    BANK_TRANSFER,
+    CARD,
+    ACH,
+    WALLET
+}
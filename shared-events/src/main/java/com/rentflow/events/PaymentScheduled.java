@@ -0,0 +1,23 @@
+package com.rentflow.events;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record PaymentScheduled(
+    UUID paymentId,
+    UUID scheduleId,
+    String recurrencePattern,
+    Instant nextExecution,
+    Instant timestamp,
+    Integer version
+) implements PaymentEvent {
+    public static final String EVENT_TYPE = "payment.scheduled";
+    public static final int CURRENT_VERSION = 1;
+
+    public String eventType() { return EVENT_TYPE; }
+    public PaymentScheduled {
+        if (version == null) {
+            version = CURRENT_VERSION;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.rentflow.events;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// Every committed status transition of a payment, including the ones without an event of their own
+public record PaymentTransitioned(
+    UUID paymentId,
+    UUID tenantId,
+    UUID leaseId,
+    String oldStatus,
+    String newStatus,
+    String reason,
+    Instant timestamp,
+    Integer version
+) implements PaymentEvent {
+    public static final String EVENT_TYPE = "payment.transitioned";
+    public static final int CURRENT_VERSION = 1;
+
+    public String eventType() { return EVENT_TYPE; }
+    public PaymentTransitioned {
+        if (version == null) {
+            version = CURRENT_VERSION;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.rentflow.events;
+
+public enum PaymentType {
+    ONE_TIME,
+    RECURRING,
+    PARTIAL,
+    FULL
+}
@@ -0,0 +1,103 @@
+package com.rentflow.events.kafka;
+
+import com.rentflow.events.serde.EventSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.UUIDSerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.context.annotation.Bean;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.CommonErrorHandler;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+
+// Error-handling stage shared by every consumer: bounded in-memory retry with backoff, then the record is
+// parked on <topic>.DLT with the failure headers instead of blocking its partition
+@AutoConfiguration(after = KafkaAutoConfiguration.class)
+@ConditionalOnClass(KafkaTemplate.class)
+public class DeadLetterAutoConfiguration {
+
+    @Value("${rentflow.kafka.dead-letter.suffix:.DLT}")
+    private String suffix;
+
+    @Bean
+    @ConditionalOnMissingBean
+    public DeadLetterMetrics deadLetterMetrics(ObjectProvider<MeterRegistry> registry) {
+        return new DeadLetterMetrics(registry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(CommonErrorHandler.class)
+    public DefaultErrorHandler kafkaErrorHandler(
+        KafkaProperties properties,
+        ObjectProvider<SslBundles> sslBundles,
+        DeadLetterMetrics metrics,
+        @Value("${rentflow.kafka.retry.max-retries:3}") int maxRetries,
+        @Value("${rentflow.kafka.retry.initial-interval-ms:500}") long initialInterval,
+        @Value("${rentflow.kafka.retry.multiplier:2.0}") double multiplier,
+        @Value("${rentflow.kafka.retry.max-interval-ms:5000}") long maxInterval
+    ) {
+        // Kept out of the context so it cannot compete with the service's own KafkaTemplate for injection
+        var template = new KafkaTemplate<>(new DefaultKafkaProducerFactory<Object, Object>(
+            properties.buildProducerProperties(sslBundles.getIfAvailable()),
+            new DeadLetterSerializer(new UUIDSerializer()),
+            new DeadLetterSerializer(new EventSerializer())
+        ));
+        // No fixed partition: the key decides, so a lease's parked records stay together on the DLT too
+        var publisher = new DeadLetterPublishingRecoverer(template,
+            (record, exception) -> new TopicPartition(record.topic() + suffix, -1));
+        ConsumerRecordRecoverer recoverer = (record, exception) -> {
+            publisher.accept(record, exception);
+            metrics.deadLettered(record.topic(), exception);
+        };
+
+        var backOff = new ExponentialBackOffWithMaxRetries(maxRetries);
+        backOff.setInitialInterval(initialInterval);
+        backOff.setMultiplier(multiplier);
+        backOff.setMaxInterval(maxInterval);
+        return new DefaultErrorHandler(recoverer, backOff);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public DeadLetterReplayer deadLetterReplayer(
+        KafkaProperties properties,
+        ObjectProvider<SslBundles> sslBundles,
+        DeadLetterMetrics metrics,
+        @Value("${spring.application.name:rentflow}") String applicationName,
+        @Value("${rentflow.kafka.replay.batch-size:100}") int batchSize,
+        @Value("${rentflow.kafka.replay.records-per-second:200}") int recordsPerSecond
+    ) {
+        return new DeadLetterReplayer(
+            properties.buildConsumerProperties(sslBundles.getIfAvailable()),
+            properties.buildProducerProperties(sslBundles.getIfAvailable()),
+            applicationName + "-dlt-replay",
+            metrics,
+            suffix,
+            batchSize,
+            recordsPerSecond
+        );
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnAvailableEndpoint(endpoint = DeadLetterEndpoint.class)
+    public DeadLetterEndpoint deadLetterEndpoint(
+        DeadLetterReplayer replayer,
+        @Value("${rentflow.kafka.replay.default-limit:1000}") int defaultLimit
+    ) {
+        return new DeadLetterEndpoint(replayer, defaultLimit);
+    }
+}
@@ -0,0 +1,31 @@
+package com.rentflow.events.kafka;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.Map;
+
+// GET /actuator/deadletters lists parked counts; POST with {"topic": "...DLT", "limit": n} replays them
+@Endpoint(id = "deadletters")
+public class DeadLetterEndpoint {
+
+    private final DeadLetterReplayer replayer;
+    private final int defaultLimit;
+
+    public DeadLetterEndpoint(DeadLetterReplayer replayer, int defaultLimit) {
+        this.replayer = replayer;
+        this.defaultLimit = defaultLimit;
+    }
+
+    @ReadOperation
+    public Map<String, Long> parked() {
+        return replayer.parked();
+    }
+
+    @WriteOperation
+    public DeadLetterReplayer.ReplayResult replay(String topic, @Nullable Integer limit) {
+        return replayer.replay(topic, limit != null ? limit : defaultLimit);
+    }
+}
@@ -0,0 +1,44 @@
+package com.rentflow.events.kafka;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.kafka.listener.ListenerExecutionFailedException;
+
+// Per-topic dead-letter and replay counts; the DLT rate is the rate() of rentflow_kafka_dead_letters_total
+public class DeadLetterMetrics {
+
+    static final String DEAD_LETTERS = "rentflow.kafka.dead.letters";
+    static final String REPLAYED = "rentflow.kafka.dead.letters.replayed";
+
+    private final MeterRegistry registry;
+
+    public DeadLetterMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public void deadLettered(String topic, Exception exception) {
+        Counter.builder(DEAD_LETTERS)
+            .description("Records parked on a dead-letter topic after retries were exhausted")
+            .tag("topic", topic)
+            .tag("exception", rootCause(exception).getClass().getSimpleName())
+            .register(registry)
+            .increment();
+    }
+
+    public void replayed(String deadLetterTopic, String targetTopic, long count) {
+        Counter.builder(REPLAYED)
+            .description("Parked records re-injected into their original topic")
+            .tag("topic", targetTopic)
+            .tag("dead_letter_topic", deadLetterTopic)
+            .register(registry)
+            .increment(count);
+    }
+
+    private static Throwable rootCause(Exception exception) {
+        Throwable cause = exception;
+        while (cause instanceof ListenerExecutionFailedException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
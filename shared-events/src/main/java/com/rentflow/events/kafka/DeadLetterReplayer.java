@@ -0,0 +1,208 @@
+package com.rentflow.events.kafka;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.support.KafkaHeaders;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Re-injects parked records into the topic they failed on, in throttled batches. Progress is committed under
+// its own consumer group after every batch, so an interrupted replay resumes where it stopped
+public class DeadLetterReplayer {
+
+    public static final String REPLAYED_FROM = "rentflow-replayed-from";
+
+    private static final Logger log = LoggerFactory.getLogger(DeadLetterReplayer.class);
+    private static final String DLT_HEADER_PREFIX = "kafka_dlt-";
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+    private static final int MAX_EMPTY_POLLS = 5;
+
+    private final Map<String, Object> consumerProperties;
+    private final Map<String, Object> producerProperties;
+    private final DeadLetterMetrics metrics;
+    private final String suffix;
+    private final int ratePerSecond;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public DeadLetterReplayer(
+        Map<String, Object> consumerProperties,
+        Map<String, Object> producerProperties,
+        String groupId,
+        DeadLetterMetrics metrics,
+        String suffix,
+        int batchSize,
+        int ratePerSecond
+    ) {
+        this.consumerProperties = new HashMap<>(consumerProperties);
+        this.consumerProperties.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        this.consumerProperties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        this.consumerProperties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        this.consumerProperties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batchSize);
+        this.consumerProperties.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        this.consumerProperties.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        this.producerProperties = new HashMap<>(producerProperties);
+        this.producerProperties.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        this.producerProperties.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        this.metrics = metrics;
+        this.suffix = suffix;
+        this.ratePerSecond = ratePerSecond;
+    }
+
+    // Records not yet replayed, per dead-letter topic
+    public Map<String, Long> parked() {
+        var parked = new TreeMap<String, Long>();
+        try (var consumer = new KafkaConsumer<byte[], byte[]>(consumerProperties)) {
+            for (var topic : consumer.listTopics().keySet()) {
+                if (!topic.endsWith(suffix)) {
+                    continue;
+                }
+                var partitions = partitions(consumer, topic);
+                var end = consumer.endOffsets(partitions);
+                var committed = consumer.committed(end.keySet());
+                var beginning = consumer.beginningOffsets(partitions);
+                long count = 0;
+                for (var partition : partitions) {
+                    var offset = committed.get(partition);
+                    long from = Math.max(offset == null ? 0 : offset.offset(), beginning.get(partition));
+                    count += end.get(partition) - from;
+                }
+                parked.put(topic, count);
+            }
+        }
+        return parked;
+    }
+
+    public ReplayResult replay(String deadLetterTopic, int limit) {
+        if (!deadLetterTopic.endsWith(suffix)) {
+            throw new IllegalArgumentException("Not a dead-letter topic: " + deadLetterTopic);
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("A dead-letter replay is already running");
+        }
+        try (var consumer = new KafkaConsumer<byte[], byte[]>(consumerProperties);
+             var producer = new KafkaProducer<byte[], byte[]>(producerProperties)) {
+            var partitions = partitions(consumer, deadLetterTopic);
+            consumer.assign(partitions);
+            // Records parked while this replay runs wait for the next one, so a still-failing record cannot loop
+            var end = consumer.endOffsets(partitions);
+
+            var replayed = new HashMap<String, Long>();
+            long skipped = 0;
+            long total = 0;
+            int emptyPolls = 0;
+            while (total < limit && !caughtUp(consumer, end) && emptyPolls < MAX_EMPTY_POLLS) {
+                var started = System.nanoTime();
+                var offsets = new HashMap<TopicPartition, OffsetAndMetadata>();
+                var sends = new ArrayList<Future<RecordMetadata>>();
+                var batch = new HashMap<String, Long>();
+                var records = consumer.poll(POLL_TIMEOUT);
+                emptyPolls = records.isEmpty() ? emptyPolls + 1 : 0;
+                for (var record : records) {
+                    var partition = new TopicPartition(record.topic(), record.partition());
+                    if (total >= limit || record.offset() >= end.get(partition)) {
+                        continue;
+                    }
+                    offsets.put(partition, new OffsetAndMetadata(record.offset() + 1));
+                    total++;
+
+                    var target = text(record.headers().lastHeader(KafkaHeaders.DLT_ORIGINAL_TOPIC));
+                    if (target == null) {
+                        skipped++;
+                        continue;
+                    }
+                    var headers = new RecordHeaders();
+                    for (Header header : record.headers()) {
+                        if (!header.key().startsWith(DLT_HEADER_PREFIX)) {
+                            headers.add(header);
+                        }
+                    }
+                    headers.add(REPLAYED_FROM, deadLetterTopic.getBytes(StandardCharsets.UTF_8));
+                    sends.add(producer.send(new ProducerRecord<>(target, null, record.key(), record.value(), headers)));
+                    batch.merge(target, 1L, Long::sum);
+                }
+                if (offsets.isEmpty()) {
+                    continue;
+                }
+
+                producer.flush();
+                for (var send : sends) {
+                    send.get(30, TimeUnit.SECONDS);
+                }
+                consumer.commitSync(offsets);
+                batch.forEach((target, count) -> metrics.replayed(deadLetterTopic, target, count));
+                batch.forEach((target, count) -> replayed.merge(target, count, Long::sum));
+                throttle(started, batchCount(batch));
+            }
+
+            log.info("Replayed {} records from {} ({} skipped without an original topic)", total - skipped,
+                deadLetterTopic, skipped);
+            return new ReplayResult(deadLetterTopic, replayed, skipped);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Replay of " + deadLetterTopic + " was interrupted", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Replay of " + deadLetterTopic + " failed to publish", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private List<TopicPartition> partitions(KafkaConsumer<byte[], byte[]> consumer, String topic) {
+        var info = consumer.partitionsFor(topic);
+        if (info == null || info.isEmpty()) {
+            throw new IllegalArgumentException("Unknown topic: " + topic);
+        }
+        return info.stream().map(p -> new TopicPartition(p.topic(), p.partition())).toList();
+    }
+
+    private static boolean caughtUp(KafkaConsumer<byte[], byte[]> consumer, Map<TopicPartition, Long> end) {
+        for (var entry : end.entrySet()) {
+            if (consumer.position(entry.getKey()) < entry.getValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long batchCount(Map<String, Long> batch) {
+        return batch.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    // Holds the replay to ratePerSecond so the recovered consumers are not flooded
+    private void throttle(long startedNanos, long count) throws InterruptedException {
+        long budgetMillis = count * 1000 / ratePerSecond;
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
+        if (budgetMillis > elapsedMillis) {
+            Thread.sleep(budgetMillis - elapsedMillis);
+        }
+    }
+
+    private static String text(Header header) {
+        return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+
+    public record ReplayResult(String deadLetterTopic, Map<String, Long> replayed, long skipped) {}
+}
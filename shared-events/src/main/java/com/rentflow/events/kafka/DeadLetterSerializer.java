@@ -0,0 +1,44 @@
+package com.rentflow.events.kafka;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.util.Map;
+
+// Records that failed deserialization reach the recoverer as raw bytes and are parked unchanged;
+// records that failed in the listener are written back through the service's own serializer
+class DeadLetterSerializer implements Serializer<Object> {
+
+    private final Serializer<Object> delegate;
+
+    @SuppressWarnings("unchecked")
+    DeadLetterSerializer(Serializer<?> delegate) {
+        this.delegate = (Serializer<Object>) delegate;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        delegate.configure(configs, isKey);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        if (data == null || data instanceof byte[]) {
+            return (byte[]) data;
+        }
+        return delegate.serialize(topic, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        if (data == null || data instanceof byte[]) {
+            return (byte[]) data;
+        }
+        return delegate.serialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
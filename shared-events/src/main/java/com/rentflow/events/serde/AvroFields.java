@@ -0,0 +1,158 @@
+package com.rentflow.events.serde;
+
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+// Primitive mappings shared by the codecs: UUID as fixed(16), money as hundredths, Instant as timestamp-micros,
+// enum constants by name
+final class AvroFields {
+
+    private static final ThreadLocal<byte[]> UUID_BUFFER = ThreadLocal.withInitial(() -> new byte[16]);
+
+    private AvroFields() {
+    }
+
+    static EventCodec.Field uuid(String name) {
+        return new EventCodec.Field(name, "fixed(16)");
+    }
+
+    static EventCodec.Field amount(String name) {
+        return new EventCodec.Field(name, "long");
+    }
+
+    static EventCodec.Field instant(String name) {
+        return new EventCodec.Field(name, "timestamp-micros");
+    }
+
+    static EventCodec.Field string(String name) {
+        return new EventCodec.Field(name, "string");
+    }
+
+    static EventCodec.Field integer(String name) {
+        return new EventCodec.Field(name, "int");
+    }
+
+    static EventCodec.Field bool(String name) {
+        return new EventCodec.Field(name, "boolean");
+    }
+
+    static EventCodec.Field nullable(EventCodec.Field field) {
+        return new EventCodec.Field(field.name(), "null|" + field.type());
+    }
+
+    static EventCodec.Field record(String name, EventCodec.Field... fields) {
+        return new EventCodec.Field(name, Arrays.stream(fields).map(EventCodec.Field::toString)
+            .collect(Collectors.joining(", ", "record{", "}")));
+    }
+
+    static void writeUuid(BinaryEncoder encoder, UUID value) throws IOException {
+        var bytes = UUID_BUFFER.get();
+        putLong(bytes, 0, value.getMostSignificantBits());
+        putLong(bytes, 8, value.getLeastSignificantBits());
+        encoder.writeFixed(bytes);
+    }
+
+    static UUID readUuid(BinaryDecoder decoder) throws IOException {
+        var bytes = UUID_BUFFER.get();
+        decoder.readFixed(bytes);
+        return new UUID(getLong(bytes, 0), getLong(bytes, 8));
+    }
+
+    static void writeNullableUuid(BinaryEncoder encoder, UUID value) throws IOException {
+        if (writeNullIndex(encoder, value)) {
+            writeUuid(encoder, value);
+        }
+    }
+
+    static UUID readNullableUuid(BinaryDecoder decoder) throws IOException {
+        return decoder.readIndex() == 0 ? null : readUuid(decoder);
+    }
+
+    // Amounts are DECIMAL(19,2) everywhere; a value needing more precision is rejected rather than rounded
+    static void writeAmount(BinaryEncoder encoder, BigDecimal value) throws IOException {
+        encoder.writeLong(value.setScale(2, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+    }
+
+    static BigDecimal readAmount(BinaryDecoder decoder) throws IOException {
+        return BigDecimal.valueOf(decoder.readLong(), 2);
+    }
+
+    static void writeNullableAmount(BinaryEncoder encoder, BigDecimal value) throws IOException {
+        if (writeNullIndex(encoder, value)) {
+            writeAmount(encoder, value);
+        }
+    }
+
+    static BigDecimal readNullableAmount(BinaryDecoder decoder) throws IOException {
+        return decoder.readIndex() == 0 ? null : readAmount(decoder);
+    }
+
+    static void writeInstant(BinaryEncoder encoder, Instant value) throws IOException {
+        encoder.writeLong(ChronoUnit.MICROS.between(Instant.EPOCH, value));
+    }
+
+    static Instant readInstant(BinaryDecoder decoder) throws IOException {
+        long micros = decoder.readLong();
+        return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L);
+    }
+
+    static void writeNullableInstant(BinaryEncoder encoder, Instant value) throws IOException {
+        if (writeNullIndex(encoder, value)) {
+            writeInstant(encoder, value);
+        }
+    }
+
+    static Instant readNullableInstant(BinaryDecoder decoder) throws IOException {
+        return decoder.readIndex() == 0 ? null : readInstant(decoder);
+    }
+
+    // Written as the constant name rather than the ordinal, so adding or reordering constants on either side never
+    // shifts what a value means; a name the reader does not know fails decoding instead of landing on a neighbour
+    static void writeEnum(BinaryEncoder encoder, Enum<?> value) throws IOException {
+        encoder.writeString(value.name());
+    }
+
+    static <E extends Enum<E>> E readEnum(BinaryDecoder decoder, Class<E> type) throws IOException {
+        return Enum.valueOf(type, decoder.readString());
+    }
+
+    static void writeNullableString(BinaryEncoder encoder, String value) throws IOException {
+        if (writeNullIndex(encoder, value)) {
+            encoder.writeString(value);
+        }
+    }
+
+    static String readNullableString(BinaryDecoder decoder) throws IOException {
+        return decoder.readIndex() == 0 ? null : decoder.readString();
+    }
+
+    // Unions are declared as ["null", T]
+    private static boolean writeNullIndex(BinaryEncoder encoder, Object value) throws IOException {
+        encoder.writeIndex(value == null ? 0 : 1);
+        return value != null;
+    }
+
+    private static void putLong(byte[] bytes, int offset, long value) {
+        for (int i = 7; i >= 0; i--) {
+            bytes[offset + i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    private static long getLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (bytes[offset + i] & 0xFF);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,36 @@
+package com.rentflow.events.serde;
+
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+
+import java.io.IOException;
+import java.util.List;
+
+// Writes and reads one event type directly against its Avro schema, without an intermediate GenericRecord
+public interface EventCodec<T> {
+
+    Class<T> type();
+
+    String eventType();
+
+    int version();
+
+    // Name of the schema file under schemas/, without the .avsc extension
+    String schemaName();
+
+    // Fields in write order; names and types are checked against the schema when the registry loads
+    List<Field> fields();
+
+    void encode(T event, BinaryEncoder encoder) throws IOException;
+
+    T decode(BinaryDecoder decoder) throws IOException;
+
+    // A field name and its type rendered the way EventSchemaRegistry renders the .avsc
+    record Field(String name, String type) {
+
+        @Override
+        public String toString() {
+            return name + ": " + type;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.rentflow.events.serde;
+
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.io.IOException;
+import java.util.Map;
+
+// Dispatches on the event type and version headers and reads both encodings, so consumers can be upgraded
+// before producers switch to Avro
+public class EventDeserializer implements Deserializer<Object> {
+
+    private static final ThreadLocal<BinaryDecoder[]> DECODER = ThreadLocal.withInitial(() -> new BinaryDecoder[1]);
+
+    private final JsonDeserializer<Object> json = new JsonDeserializer<>();
+    private EventSchemaRegistry registry;
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        json.configure(configs, isKey);
+        registry = EventSchemaRegistry.forDirectory(configs.get(EventSerializer.SCHEMA_DIRECTORY_CONFIG));
+    }
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        return json.deserialize(topic, data);
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        var eventType = header(headers, EventHeaders.EVENT_TYPE);
+        var version = header(headers, EventHeaders.EVENT_VERSION);
+        if (eventType == null || version == null) {
+            // Published before the dispatch table existed, or not a shared event
+            return json.deserialize(topic, headers, data);
+        }
+
+        var binding = EventTypes.forType(eventType, parseVersion(topic, eventType, version));
+        if (binding == null) {
+            throw new SerializationException("No binding for " + eventType + " v" + version + " on " + topic);
+        }
+        if (!EventEncoding.AVRO.headerValue().equals(header(headers, EventHeaders.ENCODING))) {
+            try {
+                return binding.reader().readValue(data);
+            } catch (IOException e) {
+                throw new SerializationException("Failed to read " + eventType + " from " + topic, e);
+            }
+        }
+
+        var fingerprintHeader = headers.lastHeader(EventHeaders.SCHEMA_FINGERPRINT);
+        if (fingerprintHeader == null) {
+            throw new SerializationException("Avro record on " + topic + " has no schema fingerprint header");
+        }
+        var registered = registry.forFingerprint(EventHeaders.fingerprint(fingerprintHeader.value()));
+        if (registered == null || registered.codec() != binding.codec()) {
+            throw new SerializationException("Unknown schema fingerprint on " + topic + " for " + eventType + " v" + version);
+        }
+
+        var reuse = DECODER.get();
+        reuse[0] = DecoderFactory.get().binaryDecoder(data, reuse[0]);
+        try {
+            return binding.codec().decode(reuse[0]);
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Failed to decode " + eventType + " from " + topic, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        json.close();
+    }
+
+    private static String header(Headers headers, String name) {
+        var header = headers.lastHeader(name);
+        return header == null ? null : EventHeaders.text(header.value());
+    }
+
+    private static int parseVersion(String topic, String eventType, String version) {
+        try {
+            return Integer.parseInt(version);
+        } catch (NumberFormatException e) {
+            throw new SerializationException("Invalid version '" + version + "' for " + eventType + " on " + topic, e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.rentflow.events.serde;
+
+public enum EventEncoding {
+    JSON,
+    AVRO;
+
+    static EventEncoding from(Object value) {
+        return value == null ? JSON : valueOf(value.toString().trim().toUpperCase());
+    }
+
+    String headerValue() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,32 @@
+package com.rentflow.events.serde;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+// Record headers that let a consumer pick the decoder without inspecting the payload
+public final class EventHeaders {
+
+    public static final String ENCODING = "rentflow-encoding";
+    public static final String EVENT_TYPE = "rentflow-event-type";
+    public static final String EVENT_VERSION = "rentflow-event-version";
+    public static final String SCHEMA_FINGERPRINT = "rentflow-schema-fingerprint";
+
+    private EventHeaders() {
+    }
+
+    static byte[] text(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    static String text(byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    static byte[] fingerprint(long value) {
+        return ByteBuffer.allocate(Long.BYTES).putLong(value).array();
+    }
+
+    static long fingerprint(byte[] value) {
+        return ByteBuffer.wrap(value).getLong();
+    }
+}
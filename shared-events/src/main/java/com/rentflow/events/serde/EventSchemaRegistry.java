@@ -0,0 +1,91 @@
+package com.rentflow.events.serde;
+
+import org.apache.avro.LogicalType;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaNormalization;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// File-based schema registry: one .avsc per event under schemas/ on the classpath, optionally overridden from a directory
+public final class EventSchemaRegistry {
+
+    private static final Map<String, EventSchemaRegistry> INSTANCES = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, RegisteredSchema> byType = new HashMap<>();
+    private final Map<Long, RegisteredSchema> byFingerprint = new HashMap<>();
+
+    private EventSchemaRegistry(Path directory) {
+        for (var binding : EventTypes.all()) {
+            var codec = binding.codec();
+            var schema = load(directory, codec.schemaName());
+            var fields = schema.getFields().stream().map(field -> new EventCodec.Field(field.name(), type(field.schema())))
+                .toList();
+            if (!fields.equals(codec.fields())) {
+                throw new IllegalStateException("Codec for " + codec.schemaName() + " writes " + codec.fields()
+                    + " but the schema declares " + fields);
+            }
+            var registered = new RegisteredSchema(codec, schema, SchemaNormalization.parsingFingerprint64(schema));
+            byType.put(codec.type(), registered);
+            byFingerprint.put(registered.fingerprint(), registered);
+        }
+    }
+
+    // Serializers are created reflectively by the Kafka client, so registries are shared per schema directory
+    public static EventSchemaRegistry forDirectory(Object directory) {
+        var key = directory == null ? "" : directory.toString();
+        return INSTANCES.computeIfAbsent(key, dir -> new EventSchemaRegistry(dir.isEmpty() ? null : Path.of(dir)));
+    }
+
+    public RegisteredSchema forType(Class<?> type) {
+        return byType.get(type);
+    }
+
+    public RegisteredSchema forFingerprint(long fingerprint) {
+        return byFingerprint.get(fingerprint);
+    }
+
+    // Renders a schema the way the codecs declare their fields, so a changed type, union branch or enum symbol list
+    // fails the check at startup rather than being misread on the wire
+    static String type(Schema schema) {
+        return switch (schema.getType()) {
+            case UNION -> schema.getTypes().stream().map(EventSchemaRegistry::type).collect(Collectors.joining("|"));
+            case FIXED -> "fixed(" + schema.getFixedSize() + ")";
+            case ENUM -> "enum" + schema.getEnumSymbols();
+            case RECORD -> schema.getFields().stream().map(field -> field.name() + ": " + type(field.schema()))
+                .collect(Collectors.joining(", ", "record{", "}"));
+            default -> {
+                var logicalType = schema.getProp(LogicalType.LOGICAL_TYPE_PROP);
+                yield logicalType != null ? logicalType : schema.getType().getName();
+            }
+        };
+    }
+
+    private static Schema load(Path directory, String name) {
+        var fileName = name + ".avsc";
+        try {
+            if (directory != null && Files.isRegularFile(directory.resolve(fileName))) {
+                try (InputStream in = Files.newInputStream(directory.resolve(fileName))) {
+                    return new Schema.Parser().parse(in);
+                }
+            }
+            try (InputStream in = EventSchemaRegistry.class.getClassLoader().getResourceAsStream("schemas/" + fileName)) {
+                if (in == null) {
+                    throw new IllegalStateException("Schema not found: schemas/" + fileName);
+                }
+                return new Schema.Parser().parse(in);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read schema " + fileName, e);
+        }
+    }
+
+    public record RegisteredSchema(EventCodec<?> codec, Schema schema, long fingerprint) {}
+}
@@ -0,0 +1,102 @@
+package com.rentflow.events.serde;
+
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+
+// Writes shared events through their EventTypes binding, as Avro binary when rentflow.events.encoding=avro;
+// any other payload goes through JsonSerializer
+public class EventSerializer implements Serializer<Object> {
+
+    public static final String ENCODING_CONFIG = "rentflow.events.encoding";
+    public static final String SCHEMA_DIRECTORY_CONFIG = "rentflow.events.schema-directory";
+
+    private static final ThreadLocal<EncoderState> ENCODER = ThreadLocal.withInitial(EncoderState::new);
+
+    private final JsonSerializer<Object> json = new JsonSerializer<>();
+    private EventEncoding encoding = EventEncoding.JSON;
+    private EventSchemaRegistry registry;
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        json.configure(configs, isKey);
+        encoding = EventEncoding.from(configs.get(ENCODING_CONFIG));
+        registry = EventSchemaRegistry.forDirectory(configs.get(SCHEMA_DIRECTORY_CONFIG));
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        // Without headers a consumer cannot tell the encodings apart, so stay on JSON
+        return json.serialize(topic, data);
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        if (data == null) {
+            return null;
+        }
+        var binding = EventTypes.forClass(data.getClass());
+        headers.remove(EventHeaders.ENCODING);
+        if (binding == null) {
+            headers.add(EventHeaders.ENCODING, EventHeaders.text(EventEncoding.JSON.headerValue()));
+            return json.serialize(topic, headers, data);
+        }
+
+        var codec = (EventCodec) binding.codec();
+        headers.add(EventHeaders.EVENT_TYPE, EventHeaders.text(codec.eventType()));
+        headers.add(EventHeaders.EVENT_VERSION, EventHeaders.text(String.valueOf(codec.version())));
+        if (encoding == EventEncoding.JSON) {
+            headers.add(EventHeaders.ENCODING, EventHeaders.text(EventEncoding.JSON.headerValue()));
+            addTypeId(headers, data);
+            try {
+                return binding.writer().writeValueAsBytes(data);
+            } catch (IOException e) {
+                throw new SerializationException("Failed to write " + codec.eventType() + " for topic " + topic, e);
+            }
+        }
+
+        var registered = registry.forType(data.getClass());
+        headers.add(EventHeaders.ENCODING, EventHeaders.text(EventEncoding.AVRO.headerValue()));
+        headers.add(EventHeaders.SCHEMA_FINGERPRINT, EventHeaders.fingerprint(registered.fingerprint()));
+
+        var state = ENCODER.get();
+        state.buffer.reset();
+        try {
+            codec.encode(data, state.encoder);
+            state.encoder.flush();
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Failed to encode " + codec.eventType() + " for topic " + topic, e);
+        }
+        return state.buffer.toByteArray();
+    }
+
+    // Consumers still on Spring's JsonDeserializer resolve the payload from __TypeId__. Producers map the shared
+    // records back to the class names they published before the move with spring.json.type.mapping
+    private void addTypeId(Headers headers, Object data) {
+        headers.remove(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME);
+        if (json.isAddTypeInfo()) {
+            json.getTypeMapper().fromJavaType(TypeFactory.defaultInstance().constructType(data.getClass()), headers);
+        }
+    }
+
+    @Override
+    public void close() {
+        json.close();
+    }
+
+    // One buffer and encoder per producer thread, reused across records
+    private static final class EncoderState {
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+        private final BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(buffer, null);
+    }
+}
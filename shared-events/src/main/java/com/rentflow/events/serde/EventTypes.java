@@ -0,0 +1,64 @@
+package com.rentflow.events.serde;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.kafka.support.JacksonUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Version-dispatch table: each (event type, version) resolves to its record class, Avro codec and a Jackson
+// reader/writer built once, so consumers decode straight into the concrete record without polymorphic lookup
+public final class EventTypes {
+
+    // Same mapper configuration as JsonSerializer, so records written before the table existed still read back
+    private static final ObjectMapper MAPPER = JacksonUtils.enhancedObjectMapper();
+
+    private static final List<EventBinding<?>> BINDINGS = List.of(
+        bind(new PaymentCreatedCodec()),
+        bind(new PaymentCompletedCodec()),
+        bind(new PaymentFailedCodec()),
+        bind(new PaymentScheduledCodec()),
+        bind(new PaymentTransitionedCodec()),
+        bind(new LedgerEntryCreatedCodec()),
+        bind(new LedgerEntrySettledCodec())
+    );
+
+    private static final Map<Class<?>, EventBinding<?>> BY_CLASS = new HashMap<>();
+    private static final Map<Key, EventBinding<?>> BY_TYPE_AND_VERSION = new HashMap<>();
+
+    static {
+        for (var binding : BINDINGS) {
+            BY_CLASS.put(binding.codec().type(), binding);
+            var key = new Key(binding.codec().eventType(), binding.codec().version());
+            if (BY_TYPE_AND_VERSION.put(key, binding) != null) {
+                throw new IllegalStateException("Duplicate event binding for " + key);
+            }
+        }
+    }
+
+    private EventTypes() {
+    }
+
+    public static EventBinding<?> forClass(Class<?> type) {
+        return BY_CLASS.get(type);
+    }
+
+    public static EventBinding<?> forType(String eventType, int version) {
+        return BY_TYPE_AND_VERSION.get(new Key(eventType, version));
+    }
+
+    static List<EventBinding<?>> all() {
+        return BINDINGS;
+    }
+
+    private static <T> EventBinding<T> bind(EventCodec<T> codec) {
+        return new EventBinding<>(codec, MAPPER.readerFor(codec.type()), MAPPER.writerFor(codec.type()));
+    }
+
+    public record EventBinding<T>(EventCodec<T> codec, ObjectReader reader, ObjectWriter writer) {}
+
+    private record Key(String eventType, int version) {}
+}
@@ -0,0 +1,97 @@
+package com.rentflow.events.serde;
+
+import com.rentflow.events.LedgerAccount;
+import com.rentflow.events.LedgerEntryCreated;
+import com.rentflow.events.LedgerEntryType;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+
+import java.io.IOException;
+import java.util.List;
+
+import static com.rentflow.events.serde.AvroFields.*;
+
+final class LedgerEntryCreatedCodec implements EventCodec<LedgerEntryCreated> {
+
+    @Override
+    public Class<LedgerEntryCreated> type() {
+        return LedgerEntryCreated.class;
+    }
+
+    @Override
+    public String eventType() {
+        return LedgerEntryCreated.EVENT_TYPE;
+    }
+
+    @Override
+    public int version() {
+        return LedgerEntryCreated.CURRENT_VERSION;
+    }
+
+    @Override
+    public String schemaName() {
+        return "LedgerEntryCreated";
+    }
+
+    @Override
+    public List<Field> fields() {
+        return List.of(
+            uuid("entryId"), uuid("paymentId"), uuid("tenantId"), uuid("propertyId"), uuid("leaseId"),
+            account("debitAccount"), account("creditAccount"), amount("amount"), string("currency"),
+            nullable(string("reference")), nullable(string("description")), string("entryType"), instant("timestamp"),
+            integer("version")
+        );
+    }
+
+    @Override
+    public void encode(LedgerEntryCreated event, BinaryEncoder encoder) throws IOException {
+        writeUuid(encoder, event.entryId());
+        writeUuid(encoder, event.paymentId());
+        writeUuid(encoder, event.tenantId());
+        writeUuid(encoder, event.propertyId());
+        writeUuid(encoder, event.leaseId());
+        writeAccount(encoder, event.debitAccount());
+        writeAccount(encoder, event.creditAccount());
+        writeAmount(encoder, event.amount());
+        encoder.writeString(event.currency());
+        writeNullableString(encoder, event.reference());
+        writeNullableString(encoder, event.description());
+        writeEnum(encoder, event.entryType());
+        writeInstant(encoder, event.timestamp());
+        encoder.writeInt(version());
+    }
+
+    @Override
+    public LedgerEntryCreated decode(BinaryDecoder decoder) throws IOException {
+        return new LedgerEntryCreated(
+            readUuid(decoder),
+            readUuid(decoder),
+            readUuid(decoder),
+            readUuid(decoder),
+            readUuid(decoder),
+            readAccount(decoder),
+            readAccount(decoder),
+            readAmount(decoder),
+            decoder.readString(),
+            readNullableString(decoder),
+            readNullableString(decoder),
+            readEnum(decoder, LedgerEntryType.class),
+            readInstant(decoder),
+            decoder.readInt()
+        );
+    }
+
+    private static Field account(String name) {
+        return record(name, string("accountNumber"), string("accountType"), string("ownerId"));
+    }
+
+    private static void writeAccount(BinaryEncoder encoder, LedgerAccount account) throws IOException {
+        encoder.writeString(account.accountNumber());
+        encoder.writeString(account.accountType());
+        encoder.writeString(account.ownerId());
+    }
+
+    private static LedgerAccount readAccount(BinaryDecoder decoder) throws IOException {
+        return new LedgerAccount(decoder.readString(), decoder.readString(), decoder.readString());
+    }
+}
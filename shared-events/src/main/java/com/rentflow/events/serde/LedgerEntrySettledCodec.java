@@ -0,0 +1,63 @@
+package com.rentflow.events.serde;
+
+import com.rentflow.events.LedgerEntrySettled;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+
+import java.io.IOException;
+import java.util.List;
+
+import static com.rentflow.events.serde.AvroFields.*;
+
+final class LedgerEntrySettledCodec implements EventCodec<LedgerEntrySettled> {
+
+    @Override
+    public Class<LedgerEntrySettled> type() {
+        return LedgerEntrySettled.class;
+    }
+
+    @Override
+    public String eventType() {
+        return LedgerEntrySettled.EVENT_TYPE;
+    }
+
+    @Override
+    public int version() {
+        return LedgerEntrySettled.CURRENT_VERSION;
+    }
+
+    @Override
+    public String schemaName() {
+        return "LedgerEntrySettled";
+    }
+
+    @Override
+    public List<Field> fields() {
+        return List.of(
+            uuid("entryId"), nullable(uuid("transactionId")), amount("settledAmount"), instant("settledAt"),
+            instant("timestamp"), integer("version")
+        );
+    }
+
+    @Override
+    public void encode(LedgerEntrySettled event, BinaryEncoder encoder) throws IOException {
+        writeUuid(encoder, event.entryId());
+        writeNullableUuid(encoder, event.transactionId());
+        writeAmount(encoder, event.settledAmount());
+        writeInstant(encoder, event.settledAt());
+        writeInstant(encoder, event.timestamp());
+        encoder.writeInt(version());
+    }
+
+    @Override
+    public LedgerEntrySettled decode(BinaryDecoder decoder) throws IOException {
+        return new LedgerEntrySettled(
+            readUuid(decoder),
+            readNullableUuid(decoder),
+            readAmount(decoder),
+            readInstant(decoder),
+            readInstant(decoder),
+            decoder.readInt()
+        );
+    }
+}
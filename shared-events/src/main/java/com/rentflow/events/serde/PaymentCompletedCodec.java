@@ -0,0 +1,67 @@
+package com.rentflow.events.serde;
+
+import com.rentflow.events.PaymentCompleted;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+
+import java.io.IOException;
+import java.util.List;
+
+import static com.rentflow.events.serde.AvroFields.*;
+
+final class PaymentCompletedCodec implements EventCodec<PaymentCompleted> {
+
+    @Override
+    public Class<PaymentCompleted> type() {
+        return PaymentCompleted.class;
+    }
+
+    @Override
+    public String eventType() {
+        return PaymentCompleted.EVENT_TYPE;
+    }
+
+    @Override
+    public int version() {
+        return PaymentCompleted.CURRENT_VERSION;
+    }
+
+    @Override
+    public String schemaName() {
+        return "PaymentCompleted";
+    }
+
+    @Override
+    public List<Field> fields() {
+        return List.of(
+            uuid("paymentId"), nullable(string("transactionId")), amount("settledAmount"), nullable(amount("feeAmount")),
+            nullable(string("settlementMethod")), instant("settledAt"), instant("timestamp"), integer("version")
+        );
+    }
+
+    @Override
+    public void encode(PaymentCompleted event, BinaryEncoder encoder) throws IOException {
+        writeUuid(encoder, event.paymentId());
+        writeNullableString(encoder, event.transactionId());
+        writeAmount(encoder, event.settledAmount());
+        writeNullableAmount(encoder, event.feeAmount());
+        writeNullableString(encoder, event.settlementMethod());
+        writeInstant(encoder, event.settledAt());
+        writeInstant(encoder, event.timestamp());
+        encoder.writeInt(version());
+    }
+
+    @Override
+    public PaymentCompleted decode(BinaryDecoder decoder) throws IOException {
+        return new PaymentCompleted(
+            readUuid(decoder),
+            readNullableString(decoder),
+            readAmount(decoder),
+            readNullableAmount(decoder),
+            readNullableString(decoder),
+            readInstant(decoder),
+            readInstant(decoder),
+            decoder.readInt()
+        );
+    }
+}
@@ -0,0 +1,76 @@
+package com.rentflow.events.serde;
+
+import com.rentflow.events.PaymentCreated;
+import com.rentflow.events.PaymentMethod;
+import com.rentflow.events.PaymentType;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+
+import java.io.IOException;
+import java.util.List;
+
+import static com.rentflow.events.serde.AvroFields.*;
+
+final class PaymentCreatedCodec implements EventCodec<PaymentCreated> {
+
+    @Override
+    public Class<PaymentCreated> type() {
+        return PaymentCreated.class;
+    }
+
+    @Override
+    public String eventType() {
+        return PaymentCreated.EVENT_TYPE;
+    }
+
+    @Override
+    public int version() {
+        return PaymentCreated.CURRENT_VERSION;
+    }
+
+    @Override
+    public String schemaName() {
+        return "PaymentCreated";
+    }
+
+    @Override
+    public List<Field> fields() {
+        return List.of(
+            uuid("paymentId"), uuid("tenantId"), uuid("propertyId"), uuid("leaseId"), amount("amount"),
+            string("currency"), string("paymentMethod"), string("paymentType"), nullable(instant("scheduledFor")),
+            instant("timestamp"), integer("version")
+        );
+    }
+
+    @Override
+    public void encode(PaymentCreated event, BinaryEncoder encoder) throws IOException {
+        writeUuid(encoder, event.paymentId());
+        writeUuid(encoder, event.tenantId());
+        writeUuid(encoder, event.propertyId());
+        writeUuid(encoder, event.leaseId());
+        writeAmount(encoder, event.amount());
+        encoder.writeString(event.currency());
+        writeEnum(encoder, event.paymentMethod());
+        writeEnum(encoder, event.paymentType());
+        writeNullableInstant(encoder, event.scheduledFor());
+        writeInstant(encoder, event.timestamp());
+        encoder.writeInt(version());
+    }
+
+    @Override
+    public PaymentCreated decode(BinaryDecoder decoder) throws IOException {
+        return new PaymentCreated(
+            readUuid(decoder),
+            readUuid(decoder),
+            readUuid(decoder),
+            readUuid(decoder),
+            readAmount(decoder),
+            decoder.readString(),
+            readEnum(decoder, PaymentMethod.class),
+            readEnum(decoder, PaymentType.class),
+            readNullableInstant(decoder),
+            readInstant(decoder),
+            decoder.readInt()
+        );
+    }
+}
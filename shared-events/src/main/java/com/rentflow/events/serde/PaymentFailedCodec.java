@@ -0,0 +1,65 @@
+package com.rentflow.events.serde;
+
+import com.rentflow.events.PaymentFailed;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+
+import java.io.IOException;
+import java.util.List;
+
+import static com.rentflow.events.serde.AvroFields.*;
+
+final class PaymentFailedCodec implements EventCodec<PaymentFailed> {
+
+    @Override
+    public Class<PaymentFailed> type() {
+        return PaymentFailed.class;
+    }
+
+    @Override
+    public String eventType() {
+        return PaymentFailed.EVENT_TYPE;
+    }
+
+    @Override
+    public int version() {
+        return PaymentFailed.CURRENT_VERSION;
+    }
+
+    @Override
+    public String schemaName() {
+        return "PaymentFailed";
+    }
+
+    @Override
+    public List<Field> fields() {
+        return List.of(
+            uuid("paymentId"), nullable(string("errorCode")), nullable(string("errorMessage")), bool("retryable"),
+            nullable(instant("retryAfter")), instant("timestamp"), integer("version")
+        );
+    }
+
+    @Override
+    public void encode(PaymentFailed event, BinaryEncoder encoder) throws IOException {
+        writeUuid(encoder, event.paymentId());
+        writeNullableString(encoder, event.errorCode());
+        writeNullableString(encoder, event.errorMessage());
+        encoder.writeBoolean(event.retryable());
+        writeNullableInstant(encoder, event.retryAfter());
+        writeInstant(encoder, event.timestamp());
+        encoder.writeInt(version());
+    }
+
+    @Override
+    public PaymentFailed decode(BinaryDecoder decoder) throws IOException {
+        return new PaymentFailed(
+            readUuid(decoder),
+            readNullableString(decoder),
+            readNullableString(decoder),
+            decoder.readBoolean(),
+            readNullableInstant(decoder),
+            readInstant(decoder),
+            decoder.readInt()
+        );
+    }
+}
@@ -0,0 +1,63 @@
+package com.rentflow.events.serde;
+
+import com.rentflow.events.PaymentScheduled;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+
+import java.io.IOException;
+import java.util.List;
+
+import static com.rentflow.events.serde.AvroFields.*;
+
+final class PaymentScheduledCodec implements EventCodec<PaymentScheduled> {
+
+    @Override
+    public Class<PaymentScheduled> type() {
+        return PaymentScheduled.class;
+    }
+
+    @Override
+    public String eventType() {
+        return PaymentScheduled.EVENT_TYPE;
+    }
+
+    @Override
+    public int version() {
+        return PaymentScheduled.CURRENT_VERSION;
+    }
+
+    @Override
+    public String schemaName() {
+        return "PaymentScheduled";
+    }
+
+    @Override
+    public List<Field> fields() {
+        return List.of(
+            uuid("paymentId"), uuid("scheduleId"), string("recurrencePattern"), nullable(instant("nextExecution")),
+            instant("timestamp"), integer("version")
+        );
+    }
+
+    @Override
+    public void encode(PaymentScheduled event, BinaryEncoder encoder) throws IOException {
+        writeUuid(encoder, event.paymentId());
+        writeUuid(encoder, event.scheduleId());
+        encoder.writeString(event.recurrencePattern());
+        writeNullableInstant(encoder, event.nextExecution());
+        writeInstant(encoder, event.timestamp());
+        encoder.writeInt(version());
+    }
+
+    @Override
+    public PaymentScheduled decode(BinaryDecoder decoder) throws IOException {
+        return new PaymentScheduled(
+            readUuid(decoder),
+            readUuid(decoder),
+            decoder.readString(),
+            readNullableInstant(decoder),
+            readInstant(decoder),
+            decoder.readInt()
+        );
+    }
+}
@@ -0,0 +1,67 @@
+package com.rentflow.events.serde;
+
+import com.rentflow.events.PaymentTransitioned;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+
+import java.io.IOException;
+import java.util.List;
+
+import static com.rentflow.events.serde.AvroFields.*;
+
+final class PaymentTransitionedCodec implements EventCodec<PaymentTransitioned> {
+
+    @Override
+    public Class<PaymentTransitioned> type() {
+        return PaymentTransitioned.class;
+    }
+
+    @Override
+    public String eventType() {
+        return PaymentTransitioned.EVENT_TYPE;
+    }
+
+    @Override
+    public int version() {
+        return PaymentTransitioned.CURRENT_VERSION;
+    }
+
+    @Override
+    public String schemaName() {
+        return "PaymentTransitioned";
+    }
+
+    @Override
+    public List<Field> fields() {
+        return List.of(
+            uuid("paymentId"), uuid("tenantId"), uuid("leaseId"), nullable(string("oldStatus")), string("newStatus"),
+            nullable(string("reason")), instant("timestamp"), integer("version")
+        );
+    }
+
+    @Override
+    public void encode(PaymentTransitioned event, BinaryEncoder encoder) throws IOException {
+        writeUuid(encoder, event.paymentId());
+        writeUuid(encoder, event.tenantId());
+        writeUuid(encoder, event.leaseId());
+        writeNullableString(encoder, event.oldStatus());
+        encoder.writeString(event.newStatus());
+        writeNullableString(encoder, event.reason());
+        writeInstant(encoder, event.timestamp());
+        encoder.writeInt(version());
+    }
+
+    @Override
+    public PaymentTransitioned decode(BinaryDecoder decoder) throws IOException {
+        return new PaymentTransitioned(
+            readUuid(decoder),
+            readUuid(decoder),
+            readUuid(decoder),
+            readNullableString(decoder),
+            decoder.readString(),
+            readNullableString(decoder),
+            readInstant(decoder),
+            decoder.readInt()
+        );
+    }
+}
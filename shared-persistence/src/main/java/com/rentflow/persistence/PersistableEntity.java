@@ -0,0 +1,31 @@
+package com.rentflow.persistence;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+import java.util.UUID;
+
+// Entities get their ids before they are saved, so a non-null id says nothing about whether the row exists.
+// Without this, save() merges and Hibernate SELECTs the row first; with it, a new entity is persisted directly
+@MappedSuperclass
+public abstract class PersistableEntity implements Persistable<UUID> {
+
+    @Transient
+    private boolean isNew = true;
+
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        isNew = false;
+    }
+}
@@ -0,0 +1,14 @@
+package com.rentflow.persistence;
+
+import org.hibernate.Interceptor;
+import org.springframework.data.domain.Persistable;
+
+// persist() of an entity with an assigned id is rejected as detached unless Hibernate is told it is transient.
+// Anything else falls back to Hibernate's own id and version checks
+public class PersistableInterceptor implements Interceptor {
+
+    @Override
+    public Boolean isTransient(Object entity) {
+        return entity instanceof Persistable<?> persistable ? persistable.isNew() : null;
+    }
+}
@@ -0,0 +1,19 @@
+package com.rentflow.persistence;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+
+@AutoConfiguration(before = HibernateJpaAutoConfiguration.class)
+@ConditionalOnClass(HibernatePropertiesCustomizer.class)
+public class PersistenceAutoConfiguration {
+
+    @Bean
+    public HibernatePropertiesCustomizer persistableInterceptorCustomizer() {
+        var interceptor = new PersistableInterceptor();
+        return properties -> properties.putIfAbsent(AvailableSettings.INTERCEPTOR, interceptor);
+    }
+}
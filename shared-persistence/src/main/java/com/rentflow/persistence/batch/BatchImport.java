@@ -0,0 +1,144 @@
+package com.rentflow.persistence.batch;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.TreeNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+// Streaming bulk import shared by the services' batch endpoints. Reads a JSON array or NDJSON of requests, parses
+// and validates each row as it arrives and hands them to the caller a chunk at a time. Each chunk's results go out as
+// one NDJSON line per row once the caller returns, then a summary line. Malformed JSON ends the import; the rows
+// before it are kept
+public class BatchImport<R, S extends Enum<S>> {
+
+    // request is null when the row failed to parse or validate; errors then says why
+    public record Row<R>(int number, R request, List<String> errors) {}
+
+    public record Result<S>(int row, S status, UUID id, List<String> errors) {}
+
+    public record Summary<S extends Enum<S>>(int rows, Map<S, Integer> totals, String error) {}
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final Class<R> requestType;
+    private final Class<S> statusType;
+    private final String idField;
+    private final int chunkSize;
+    private final int maxRows;
+
+    // idField names the created entity's id on each row line, e.g. paymentId
+    public BatchImport(ObjectMapper objectMapper, Validator validator, Class<R> requestType, Class<S> statusType,
+                       String idField, int chunkSize, int maxRows) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.requestType = requestType;
+        this.statusType = statusType;
+        this.idField = idField;
+        this.chunkSize = chunkSize;
+        this.maxRows = maxRows;
+    }
+
+    // processChunk writes one chunk and returns a result per row, in any order
+    public Summary<S> run(InputStream in, OutputStream out, Function<List<Row<R>>, List<Result<S>>> processChunk) {
+        var totals = new EnumMap<S, Integer>(statusType);
+        try (var parser = objectMapper.getFactory().createParser(in);
+             var json = objectMapper.getFactory().createGenerator(out)) {
+            json.setRootValueSeparator(null);
+            var chunk = new ArrayList<Row<R>>(chunkSize);
+            var rows = 0;
+            String error = null;
+            try {
+                var token = parser.nextToken();
+                if (token == JsonToken.START_ARRAY) {
+                    token = parser.nextToken();
+                }
+                for (; token != null && token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                    if (rows == maxRows) {
+                        error = "Batch exceeds " + maxRows + " rows";
+                        break;
+                    }
+                    TreeNode node = parser.readValueAsTree();
+                    chunk.add(parse(++rows, node));
+                    if (chunk.size() == chunkSize) {
+                        write(json, processChunk.apply(chunk), totals);
+                        chunk.clear();
+                    }
+                }
+            } catch (JsonProcessingException e) {
+                error = "Malformed JSON after row " + rows + ": " + e.getOriginalMessage();
+            }
+            if (!chunk.isEmpty()) {
+                write(json, processChunk.apply(chunk), totals);
+            }
+
+            json.writeStartObject();
+            json.writeStringField("type", "summary");
+            json.writeNumberField("rows", rows);
+            for (var status : statusType.getEnumConstants()) {
+                json.writeNumberField(status.name().toLowerCase(), totals.getOrDefault(status, 0));
+            }
+            if (error != null) {
+                json.writeStringField("error", error);
+            }
+            json.writeEndObject();
+            json.writeRaw('\n');
+            return new Summary<>(rows, totals, error);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Row<R> parse(int number, TreeNode node) {
+        R request;
+        try {
+            request = objectMapper.treeToValue(node, requestType);
+        } catch (JsonProcessingException e) {
+            return new Row<>(number, null, List.of(e.getOriginalMessage()));
+        }
+        var violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return new Row<>(number, null, violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .toList());
+        }
+        return new Row<>(number, request, List.of());
+    }
+
+    private void write(JsonGenerator json, List<Result<S>> results, Map<S, Integer> totals) throws IOException {
+        for (var result : results) {
+            totals.merge(result.status(), 1, Integer::sum);
+            json.writeStartObject();
+            json.writeStringField("type", "row");
+            json.writeNumberField("row", result.row());
+            json.writeStringField("status", result.status().name());
+            if (result.id() != null) {
+                json.writeStringField(idField, result.id().toString());
+            }
+            if (!result.errors().isEmpty()) {
+                json.writeArrayFieldStart("errors");
+                for (var error : result.errors()) {
+                    json.writeString(error);
+                }
+                json.writeEndArray();
+            }
+            json.writeEndObject();
+            json.writeRaw('\n');
+        }
+        // Each chunk's results reach the client as soon as it commits
+        json.flush();
+    }
+}
@@ -0,0 +1,112 @@
+package com.rentflow.persistence.replica;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Owns the replica pool and polls its replay delay. Until the first successful check, and whenever the replica is
+// unreachable or further behind than maxLag, reads go to the primary
+public class ReplicaLagMonitor implements SmartLifecycle, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    // A replica that has replayed everything it received is current even if the primary has been idle for a
+    // while, which would otherwise look like growing lag. Zero on a server that is not in recovery
+    private static final String LAG_QUERY = """
+        SELECT CASE
+            WHEN NOT pg_is_in_recovery() THEN 0
+            WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+            ELSE coalesce(extract(epoch FROM now() - pg_last_xact_replay_timestamp()), 0)
+        END
+        """;
+
+    private final HikariDataSource pool;
+    private final JdbcTemplate replica;
+    private final Duration maxLag;
+    private final Duration checkInterval;
+    private ScheduledExecutorService scheduler;
+    private volatile double lagSeconds = Double.NaN;
+    private volatile boolean usable;
+    private Boolean reported;
+
+    public ReplicaLagMonitor(HikariDataSource pool, Duration maxLag, Duration checkInterval, MeterRegistry registry) {
+        this.pool = pool;
+        this.replica = new JdbcTemplate(pool);
+        this.replica.setQueryTimeout((int) Math.max(1, checkInterval.toSeconds()));
+        this.maxLag = maxLag;
+        this.checkInterval = checkInterval;
+        Gauge.builder("rentflow.datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+            .description("Replay delay of the read replica; NaN while it cannot be reached")
+            .baseUnit("seconds")
+            .register(registry);
+    }
+
+    public boolean usable() {
+        return usable;
+    }
+
+    HikariDataSource pool() {
+        return pool;
+    }
+
+    void check() {
+        String problem;
+        try {
+            var lag = replica.queryForObject(LAG_QUERY, Double.class);
+            lagSeconds = lag != null ? lag : 0;
+            problem = lagSeconds > maxLag.toMillis() / 1000.0
+                ? String.format("lag %.1fs exceeds %s", lagSeconds, maxLag)
+                : null;
+        } catch (RuntimeException e) {
+            lagSeconds = Double.NaN;
+            problem = "check failed: " + e.getMessage();
+        }
+
+        var nowUsable = problem == null;
+        if (reported == null || reported != nowUsable) {
+            if (nowUsable) {
+                log.info("Routing read-only transactions to the replica, lag {}s", lagSeconds);
+            } else {
+                log.warn("Routing read-only transactions to the primary, replica {}", problem);
+            }
+            reported = nowUsable;
+        }
+        usable = nowUsable;
+    }
+
+    @Override
+    public synchronized void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().daemon().name("replica-lag").factory());
+        scheduler.scheduleWithFixedDelay(this::check, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        usable = false;
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+
+    // Runs after the routing data source that borrows from the pool has been destroyed
+    @Override
+    public void destroy() {
+        pool.close();
+    }
+}
@@ -0,0 +1,40 @@
+package com.rentflow.persistence.replica;
+
+// Read-your-writes for one HTTP request: once the request has used the primary, its later read-only transactions
+// stay there instead of reading a replica that may not have replayed the write yet. Outside a request (Kafka
+// listeners, scheduled jobs) there is no scope and reads always follow the replica's health alone
+public final class ReplicaRouting {
+
+    private static final ThreadLocal<Scope> SCOPE = new ThreadLocal<>();
+
+    private ReplicaRouting() {
+    }
+
+    static void open(boolean primaryOnly) {
+        SCOPE.set(new Scope(primaryOnly));
+    }
+
+    static void close() {
+        SCOPE.remove();
+    }
+
+    static void usedPrimary() {
+        var scope = SCOPE.get();
+        if (scope != null) {
+            scope.primaryOnly = true;
+        }
+    }
+
+    static boolean primaryRequired() {
+        var scope = SCOPE.get();
+        return scope != null && scope.primaryOnly;
+    }
+
+    private static final class Scope {
+        private boolean primaryOnly;
+
+        Scope(boolean primaryOnly) {
+            this.primaryOnly = primaryOnly;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.rentflow.persistence.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import java.time.Duration;
+
+// Replaces the single Hikari data source when rentflow.datasource.replica.enabled is set. Only the routing data
+// source is a DataSource bean, so the db health check and Flyway see the primary, and a replica outage degrades
+// reads to the primary instead of failing the health endpoint. Routing is decided when a transaction first takes a
+// connection, which needs spring.jpa.open-in-view off: an open-in-view session keeps one connection for the request
+@AutoConfiguration(before = DataSourceAutoConfiguration.class)
+@ConditionalOnClass({HikariDataSource.class, LazyConnectionDataSourceProxy.class})
+@ConditionalOnProperty(name = "rentflow.datasource.replica.enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class ReplicaRoutingAutoConfiguration {
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+        DataSourceProperties properties,
+        Environment environment,
+        ObjectProvider<MeterRegistry> registry,
+        @Value("${rentflow.datasource.replica.url}") String url,
+        @Value("${rentflow.datasource.replica.max-lag:5s}") Duration maxLag,
+        @Value("${rentflow.datasource.replica.check-interval:1s}") Duration checkInterval
+    ) {
+        var meters = registry.getIfAvailable(SimpleMeterRegistry::new);
+        var replica = new HikariDataSource();
+        replica.setJdbcUrl(url);
+        replica.setUsername(properties.determineUsername());
+        replica.setPassword(properties.determinePassword());
+        replica.setPoolName("replica");
+        replica.setReadOnly(true);
+        Binder.get(environment).bind("rentflow.datasource.replica.hikari", Bindable.ofInstance(replica));
+        // Not a bean, so Boot's pool metrics would not see it
+        replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meters));
+        return new ReplicaLagMonitor(replica, maxLag, checkInterval, meters);
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource dataSource(
+        DataSourceProperties properties,
+        Environment environment,
+        ReplicaLagMonitor monitor,
+        ObjectProvider<MeterRegistry> registry
+    ) {
+        var primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        return new ReplicaRoutingDataSource(primary, monitor, registry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class RequestScope {
+
+        @Bean
+        public FilterRegistrationBean<ReplicaRoutingFilter> replicaRoutingFilter() {
+            var registration = new FilterRegistrationBean<>(new ReplicaRoutingFilter());
+            registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+            return registration;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.rentflow.persistence.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+// The physical connection is taken on the first statement, after the transaction manager has marked it read-only,
+// so @Transactional(readOnly = true) work goes to the read-only side and everything else to the primary
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+    private final HikariDataSource primary;
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, ReplicaLagMonitor monitor, MeterRegistry registry) {
+        super(new Primary(primary));
+        this.primary = primary;
+        setReadOnlyDataSource(new ReadOnly(primary, monitor.pool(), monitor, registry));
+    }
+
+    @Override
+    public void close() {
+        primary.close();
+    }
+
+    private static final class Primary extends DelegatingDataSource {
+
+        Primary(DataSource primary) {
+            super(primary);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            ReplicaRouting.usedPrimary();
+            return super.getConnection();
+        }
+    }
+
+    private static final class ReadOnly extends DelegatingDataSource {
+
+        private final DataSource primary;
+        private final ReplicaLagMonitor monitor;
+        private final Counter readYourWrites;
+        private final Counter lagging;
+
+        ReadOnly(DataSource primary, DataSource replica, ReplicaLagMonitor monitor, MeterRegistry registry) {
+            super(replica);
+            this.primary = primary;
+            this.monitor = monitor;
+            this.readYourWrites = fallbacks(registry, "read-your-writes");
+            this.lagging = fallbacks(registry, "replica-unavailable");
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (ReplicaRouting.primaryRequired()) {
+                readYourWrites.increment();
+                return primary.getConnection();
+            }
+            if (!monitor.usable()) {
+                lagging.increment();
+                return primary.getConnection();
+            }
+            return super.getConnection();
+        }
+
+        private static Counter fallbacks(MeterRegistry registry, String reason) {
+            return Counter.builder("rentflow.datasource.replica.fallbacks")
+                .description("Read-only transactions sent to the primary instead of the replica")
+                .tag("reason", reason)
+                .register(registry);
+        }
+    }
+}
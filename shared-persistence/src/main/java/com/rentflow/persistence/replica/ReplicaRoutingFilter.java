@@ -0,0 +1,26 @@
+package com.rentflow.persistence.replica;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// A client that just wrote through another request sends "X-Read-Consistency: strong" to read from the primary
+public class ReplicaRoutingFilter extends OncePerRequestFilter {
+
+    static final String CONSISTENCY_HEADER = "X-Read-Consistency";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        ReplicaRouting.open("strong".equalsIgnoreCase(request.getHeader(CONSISTENCY_HEADER)));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReplicaRouting.close();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.rentflow.persistence.test;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+// Counts statements per type in QueryCountHolder for the calling thread, JdbcTemplate ones included. A JDBC batch
+// is one statement however many rows it carries
+@TestConfiguration(proxyBeanMethods = false)
+public class StatementCountingConfiguration {
+
+    @Bean
+    static BeanPostProcessor statementCountingDataSource() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource).name(beanName).countQuery().build();
+                }
+                return bean;
+            }
+        };
+    }
+}